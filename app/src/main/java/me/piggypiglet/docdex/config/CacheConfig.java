@@ -0,0 +1,18 @@
+package me.piggypiglet.docdex.config;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+public final class CacheConfig {
+    private long maximumSize = 10_000;
+    private long expireAfterSeconds = 3600;
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public long getExpireAfterSeconds() {
+        return expireAfterSeconds;
+    }
+}
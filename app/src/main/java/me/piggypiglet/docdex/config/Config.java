@@ -3,7 +3,10 @@ package me.piggypiglet.docdex.config;
 import com.google.inject.Singleton;
 import me.piggypiglet.docdex.file.annotations.File;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 
 // ------------------------------
@@ -20,8 +23,12 @@ public final class Config {
     private String host;
     private int port;
     private MongoConfig database;
+    private IndexConfig index = new IndexConfig();
     private Set<Javadoc> javadocs;
 
+    // reloads read javadocs into a new set, which is what tells this to rebuild
+    private transient volatile JavadocNames javadocNames;
+
     @NotNull
     public String getHost() {
         return host;
@@ -36,8 +43,36 @@ public final class Config {
         return database;
     }
 
+    @NotNull
+    public IndexConfig getIndex() {
+        return index;
+    }
+
     @NotNull
     public Set<Javadoc> getJavadocs() {
         return javadocs;
     }
+
+    @Nullable
+    public Javadoc getJavadoc(@NotNull final String name) {
+        final Set<Javadoc> javadocs = this.javadocs;
+        JavadocNames javadocNames = this.javadocNames;
+
+        if (javadocNames == null || javadocNames.javadocs != javadocs) {
+            javadocNames = new JavadocNames(javadocs);
+            this.javadocNames = javadocNames;
+        }
+
+        return javadocNames.names.get(name);
+    }
+
+    private static final class JavadocNames {
+        private final Set<Javadoc> javadocs;
+        private final Map<String, Javadoc> names = new HashMap<>();
+
+        private JavadocNames(@NotNull final Set<Javadoc> javadocs) {
+            this.javadocs = javadocs;
+            javadocs.forEach(javadoc -> javadoc.getNames().forEach(name -> names.putIfAbsent(name, javadoc)));
+        }
+    }
 }
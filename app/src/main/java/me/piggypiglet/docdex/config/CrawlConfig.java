@@ -0,0 +1,38 @@
+package me.piggypiglet.docdex.config;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+public final class CrawlConfig {
+    private int connectionsPerHost = 16;
+    private int retries = 3;
+    private long backoffMillis = 250;
+    private long timeoutSeconds = 30;
+    private int pendingPages = 64;
+    private boolean cache = true;
+
+    public int getConnectionsPerHost() {
+        return Math.max(1, connectionsPerHost);
+    }
+
+    public int getRetries() {
+        return retries;
+    }
+
+    public long getBackoffMillis() {
+        return backoffMillis;
+    }
+
+    public long getTimeoutSeconds() {
+        return timeoutSeconds;
+    }
+
+    public int getPendingPages() {
+        return Math.max(1, pendingPages);
+    }
+
+    public boolean isCache() {
+        return cache;
+    }
+}
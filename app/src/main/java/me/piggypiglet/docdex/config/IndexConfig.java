@@ -0,0 +1,38 @@
+package me.piggypiglet.docdex.config;
+
+import org.jetbrains.annotations.NotNull;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+public final class IndexConfig {
+    private boolean residentObjects = true;
+    private boolean snapshots = true;
+    private CacheConfig cache = new CacheConfig();
+    private SearchConfig search = new SearchConfig();
+    private CrawlConfig crawl = new CrawlConfig();
+
+    public boolean isResidentObjects() {
+        return residentObjects;
+    }
+
+    public boolean isSnapshots() {
+        return snapshots;
+    }
+
+    @NotNull
+    public CacheConfig getCache() {
+        return cache;
+    }
+
+    @NotNull
+    public SearchConfig getSearch() {
+        return search;
+    }
+
+    @NotNull
+    public CrawlConfig getCrawl() {
+        return crawl;
+    }
+}
@@ -0,0 +1,21 @@
+package me.piggypiglet.docdex.config;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+public final class SearchConfig {
+    private int parallelism = 0;
+    // scoring runs at roughly a microsecond a name, so a chunk this size is about a millisecond of work, well clear of
+    // what forking it costs. every name in a table is ranked, so tables of a couple thousand & up get split
+    private int parallelThreshold = 1024;
+
+    // 0 or below uses every available processor
+    public int getParallelism() {
+        return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+}
@@ -0,0 +1,60 @@
+package me.piggypiglet.docdex.console.implementations;
+
+import com.google.inject.Inject;
+import me.piggypiglet.docdex.config.Config;
+import me.piggypiglet.docdex.config.Javadoc;
+import me.piggypiglet.docdex.console.ConsoleCommand;
+import me.piggypiglet.docdex.documentation.index.update.IndexUpdater;
+import me.piggypiglet.docdex.documentation.utils.DataUtils;
+import me.piggypiglet.docdex.file.FileManager;
+import me.piggypiglet.docdex.file.annotations.File;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+public final class UpdateCommand extends ConsoleCommand {
+    private final Config config;
+    private final FileManager fileManager;
+    private final IndexUpdater updater;
+
+    @Inject
+    public UpdateCommand(@NotNull final Config config, @NotNull final FileManager fileManager,
+                         @NotNull final IndexUpdater updater) {
+        super("update", "re-crawl (or add) javadocs in the background and swap them in without restarting.");
+        this.config = config;
+        this.fileManager = fileManager;
+        this.updater = updater;
+    }
+
+    @Override
+    protected void execute(@NotNull final List<String> args) {
+        // the updater rewrites links in config.json before sending this, so pick those up first
+        final File file = Config.class.getAnnotation(File.class);
+        fileManager.loadFile(Config.class, file.internalPath(), file.externalPath());
+
+        final Set<Javadoc> javadocs = config.getJavadocs();
+
+        args.stream()
+                .filter(arg -> !arg.isBlank())
+                .forEach(name -> {
+                    final Optional<Javadoc> javadoc = javadocs.stream()
+                            .filter(candidate -> DataUtils.getName(candidate).equalsIgnoreCase(name) ||
+                                    candidate.getNames().stream().anyMatch(name::equalsIgnoreCase))
+                            .findAny();
+
+                    if (javadoc.isEmpty()) {
+                        msg(name + " isn't in config.json.");
+                        return;
+                    }
+
+                    msg("Updating " + name + " in the background.");
+                    updater.update(javadoc.get());
+                });
+    }
+}
@@ -0,0 +1,193 @@
+package me.piggypiglet.docdex.db.codec;
+
+import com.google.inject.Inject;
+import me.piggypiglet.docdex.documentation.objects.DocumentedObject;
+import me.piggypiglet.docdex.documentation.objects.DocumentedTypes;
+import me.piggypiglet.docdex.documentation.objects.detail.field.FieldMetadata;
+import me.piggypiglet.docdex.documentation.objects.detail.method.MethodMetadata;
+import me.piggypiglet.docdex.documentation.objects.type.TypeMetadata;
+import org.bson.*;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static me.piggypiglet.docdex.db.codec.utils.BsonUtils.*;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+public final class DocumentedObjectBodyCodec implements Codec<DocumentedObject> {
+    private static final Codec<BsonDocument> BSON_DOCUMENT_CODEC = new BsonDocumentCodec();
+
+    private final TypeMetadataCodec typeCodec;
+    private final MethodMetadataCodec methodCodec;
+    private final FieldMetadataCodec fieldCodec;
+
+    @Inject
+    public DocumentedObjectBodyCodec(@NotNull final TypeMetadataCodec typeCodec, @NotNull final MethodMetadataCodec methodCodec,
+                                     @NotNull final FieldMetadataCodec fieldCodec) {
+        this.typeCodec = typeCodec;
+        this.methodCodec = methodCodec;
+        this.fieldCodec = fieldCodec;
+    }
+
+    @NotNull
+    @Override
+    public DocumentedObject decode(@NotNull final BsonReader reader, @NotNull final DecoderContext decoderContext) {
+        final DecodedObjectBuilder builder = new DecodedObjectBuilder();
+        BsonDocument bufferedMetadata = null;
+
+        reader.readStartDocument();
+
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case "link":
+                    builder.link(readString(reader));
+                    break;
+
+                case "type":
+                    builder.type(DocumentedTypes.valueOf(readString(reader)));
+                    break;
+
+                case "package":
+                    builder.packaj(readString(reader));
+                    break;
+
+                case "name":
+                    builder.name(readString(reader));
+                    break;
+
+                case "description":
+                    builder.description(readString(reader));
+                    break;
+
+                case "strippedDescription":
+                    builder.strippedDescription(readString(reader));
+                    break;
+
+                case "annotations":
+                    readStrings(reader, builder.getAnnotations());
+                    break;
+
+                case "deprecated":
+                    builder.deprecated(reader.readBoolean());
+                    break;
+
+                case "deprecationMessage":
+                    builder.deprecationMessage(readString(reader));
+                    break;
+
+                case "modifiers":
+                    readStrings(reader, builder.getModifiers());
+                    break;
+
+                case "metadata":
+                    // gson writes the type first, so the metadata only needs buffering for hand-made documents
+                    if (builder.getType() == null) {
+                        bufferedMetadata = BSON_DOCUMENT_CODEC.decode(reader, decoderContext);
+                    } else {
+                        builder.metadata(decodeMetadata(reader, decoderContext, builder.getType(), null));
+                    }
+                    break;
+
+                default:
+                    reader.skipValue();
+            }
+        }
+
+        reader.readEndDocument();
+
+        if (bufferedMetadata != null) {
+            builder.metadata(decodeMetadata(new BsonDocumentReader(bufferedMetadata), decoderContext,
+                    builder.getType() == null ? DocumentedTypes.UNKNOWN : builder.getType(), bufferedMetadata));
+        }
+
+        return builder.build();
+    }
+
+    @Override
+    public void encode(@NotNull final BsonWriter writer, @NotNull final DocumentedObject value,
+                       @NotNull final EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        writer.writeString("link", value.getLink());
+        writer.writeString("type", value.getType().name());
+        writer.writeString("package", value.getPackage());
+        writer.writeString("name", value.getName());
+        writer.writeString("description", value.getDescription());
+        writer.writeString("strippedDescription", value.getStrippedDescription());
+        writeStrings(writer, "annotations", value.getAnnotations());
+        writer.writeBoolean("deprecated", value.isDeprecated());
+        writer.writeString("deprecationMessage", value.getDeprecationMessage());
+        writeStrings(writer, "modifiers", value.getModifiers());
+        writer.writeName("metadata");
+        encodeMetadata(writer, value.getMetadata(), encoderContext);
+        writer.writeEndDocument();
+    }
+
+    @NotNull
+    @Override
+    public Class<DocumentedObject> getEncoderClass() {
+        return DocumentedObject.class;
+    }
+
+    @NotNull
+    private Object decodeMetadata(@NotNull final BsonReader reader, @NotNull final DecoderContext decoderContext,
+                                  @NotNull final DocumentedTypes type, @Nullable final BsonDocument buffered) {
+        if (DocumentedTypes.isType(type)) {
+            return typeCodec.decode(reader, decoderContext);
+        }
+
+        if (DocumentedTypes.isMethod(type)) {
+            return methodCodec.decode(reader, decoderContext);
+        }
+
+        if (DocumentedTypes.isField(type)) {
+            return fieldCodec.decode(reader, decoderContext);
+        }
+
+        // no type to go off, fall back to the same guess MetadataAdapter makes
+        if (buffered != null && buffered.containsKey("extensions")) {
+            return typeCodec.decode(reader, decoderContext);
+        }
+
+        return methodCodec.decode(reader, decoderContext);
+    }
+
+    private void encodeMetadata(@NotNull final BsonWriter writer, @NotNull final Object metadata,
+                                @NotNull final EncoderContext encoderContext) {
+        if (metadata instanceof TypeMetadata) {
+            typeCodec.encode(writer, (TypeMetadata) metadata, encoderContext);
+            return;
+        }
+
+        if (metadata instanceof MethodMetadata) {
+            methodCodec.encode(writer, (MethodMetadata) metadata, encoderContext);
+            return;
+        }
+
+        if (metadata instanceof FieldMetadata) {
+            fieldCodec.encode(writer, (FieldMetadata) metadata, encoderContext);
+            return;
+        }
+
+        throw new IllegalArgumentException("Unknown metadata type: " + metadata.getClass().getName());
+    }
+
+    private static final class DecodedObjectBuilder extends DocumentedObject.Builder<DecodedObjectBuilder> {
+        private Object metadata;
+
+        private void metadata(@NotNull final Object value) {
+            metadata = value;
+        }
+
+        @NotNull
+        @Override
+        public DocumentedObject build() {
+            return build(metadata);
+        }
+    }
+}
@@ -1,24 +1,28 @@
 package me.piggypiglet.docdex.db.codec;
 
-import com.google.gson.Gson;
-import com.google.inject.util.Types;
-import com.mongodb.MongoClient;
+import com.google.inject.Inject;
 import me.piggypiglet.docdex.db.objects.MongoDocumentedObject;
 import me.piggypiglet.docdex.documentation.objects.DocumentedObject;
+import me.piggypiglet.docdex.documentation.objects.MongoDocumentedObjectFields;
 import org.bson.*;
-import org.bson.codecs.Codec;
 import org.bson.codecs.CollectibleCodec;
 import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
 import org.jetbrains.annotations.NotNull;
 
+import static me.piggypiglet.docdex.db.codec.utils.BsonUtils.readString;
+
 // ------------------------------
 // Copyright (c) PiggyPiglet 2020
 // https://www.piggypiglet.me
 // ------------------------------
 public final class DocumentedObjectCodec implements CollectibleCodec<MongoDocumentedObject> {
-    private static final Codec<Document> DOCUMENT_CODEC = MongoClient.getDefaultCodecRegistry().get(Document.class);
-    private static final Gson GSON = new Gson();
+    private final DocumentedObjectBodyCodec objectCodec;
+
+    @Inject
+    public DocumentedObjectCodec(@NotNull final DocumentedObjectBodyCodec objectCodec) {
+        this.objectCodec = objectCodec;
+    }
 
     @NotNull
     @Override
@@ -38,24 +42,90 @@ public final class DocumentedObjectCodec implements CollectibleCodec<MongoDocume
 
     @Override
     public MongoDocumentedObject decode(final BsonReader reader, final DecoderContext decoderContext) {
-        final Document document = DOCUMENT_CODEC.decode(reader, decoderContext);
-
-        return MongoDocumentedObject.builder(GSON.fromJson(GSON.toJsonTree(document.get("object")), DocumentedObject.class))
-                .identifier(document.getString("identifier"))
-                .name(document.getString("name"))
-                .fqn(document.getString("fqn"))
-                .fullParams(document.getString("fullParams"))
-                .typeParams(document.getString("typeParams"))
-                .fqnTypeParams(document.getString("fqnTypeParams"))
-                .nameParams(document.getString("nameParams"))
-                .fqnNameParams(document.getString("fqnNameParams"))
+        DocumentedObject object = null;
+        String identifier = "";
+        String name = "";
+        String fqn = "";
+        String fullParams = "";
+        String typeParams = "";
+        String fqnTypeParams = "";
+        String nameParams = "";
+        String fqnNameParams = "";
+
+        reader.readStartDocument();
+
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case "identifier":
+                    identifier = readString(reader);
+                    break;
+
+                case "name":
+                    name = readString(reader);
+                    break;
+
+                case "fqn":
+                    fqn = readString(reader);
+                    break;
+
+                case "fullParams":
+                    fullParams = readString(reader);
+                    break;
+
+                case "typeParams":
+                    typeParams = readString(reader);
+                    break;
+
+                case "fqnTypeParams":
+                    fqnTypeParams = readString(reader);
+                    break;
+
+                case "nameParams":
+                    nameParams = readString(reader);
+                    break;
+
+                case "fqnNameParams":
+                    fqnNameParams = readString(reader);
+                    break;
+
+                case "object":
+                    object = objectCodec.decode(reader, decoderContext);
+                    break;
+
+                default:
+                    reader.skipValue();
+            }
+        }
+
+        reader.readEndDocument();
+
+        if (object == null) {
+            throw new BsonInvalidOperationException("Document " + identifier + " has no object.");
+        }
+
+        return MongoDocumentedObject.builder(object)
+                .identifier(identifier)
+                .name(name)
+                .fqn(fqn)
+                .fullParams(fullParams)
+                .typeParams(typeParams)
+                .fqnTypeParams(fqnTypeParams)
+                .nameParams(nameParams)
+                .fqnNameParams(fqnNameParams)
                 .build();
     }
 
     @Override
     public void encode(final BsonWriter writer, final MongoDocumentedObject value, final EncoderContext encoderContext) {
-        DOCUMENT_CODEC.encode(writer, new Document(GSON.fromJson(GSON.toJsonTree(value), Types.mapOf(String.class, Object.class))),
-                encoderContext);
+        writer.writeStartDocument();
+
+        for (final MongoDocumentedObjectFields field : MongoDocumentedObjectFields.values()) {
+            writer.writeString(field.getName(), value.get(field));
+        }
+
+        writer.writeName("object");
+        objectCodec.encode(writer, value.getObject(), encoderContext);
+        writer.writeEndDocument();
     }
 
     @Override
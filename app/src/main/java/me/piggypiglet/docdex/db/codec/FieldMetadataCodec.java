@@ -0,0 +1,60 @@
+package me.piggypiglet.docdex.db.codec;
+
+import me.piggypiglet.docdex.documentation.objects.detail.field.FieldMetadata;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.jetbrains.annotations.NotNull;
+
+import static me.piggypiglet.docdex.db.codec.utils.BsonUtils.readString;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+public final class FieldMetadataCodec implements Codec<FieldMetadata> {
+    @NotNull
+    @Override
+    public FieldMetadata decode(@NotNull final BsonReader reader, @NotNull final DecoderContext decoderContext) {
+        String owner = "";
+        String returns = "";
+
+        reader.readStartDocument();
+
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case "owner":
+                    owner = readString(reader);
+                    break;
+
+                case "returns":
+                    returns = readString(reader);
+                    break;
+
+                default:
+                    reader.skipValue();
+            }
+        }
+
+        reader.readEndDocument();
+        return new FieldMetadata(owner, returns);
+    }
+
+    @Override
+    public void encode(@NotNull final BsonWriter writer, @NotNull final FieldMetadata value,
+                       @NotNull final EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        writer.writeString("owner", value.getOwner());
+        writer.writeString("returns", value.getReturns());
+        writer.writeEndDocument();
+    }
+
+    @NotNull
+    @Override
+    public Class<FieldMetadata> getEncoderClass() {
+        return FieldMetadata.class;
+    }
+}
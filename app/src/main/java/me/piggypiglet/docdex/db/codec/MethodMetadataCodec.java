@@ -0,0 +1,117 @@
+package me.piggypiglet.docdex.db.codec;
+
+import me.piggypiglet.docdex.documentation.objects.detail.method.MethodMetadata;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.function.UnaryOperator;
+
+import static me.piggypiglet.docdex.db.codec.utils.BsonUtils.*;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+public final class MethodMetadataCodec implements Codec<MethodMetadata> {
+    // same substitution as the gson parameter adapters, mongo keys can't hold $
+    private static final UnaryOperator<String> ESCAPE = string -> string.replace("$", "!");
+    private static final UnaryOperator<String> UNESCAPE = string -> string.replace("!", "$");
+
+    @NotNull
+    @Override
+    public MethodMetadata decode(@NotNull final BsonReader reader, @NotNull final DecoderContext decoderContext) {
+        String owner = "";
+        final Set<String> parameters = new LinkedHashSet<>();
+        final Map<String, String> parameterDescriptions = new LinkedHashMap<>();
+        String returns = "";
+        String returnsDescription = "";
+        final Set<Map.Entry<String, String>> throwing = new HashSet<>();
+
+        reader.readStartDocument();
+
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case "owner":
+                    owner = readString(reader);
+                    break;
+
+                case "parameters":
+                    readStrings(reader, parameters, UNESCAPE);
+                    break;
+
+                case "parameterDescriptions":
+                    readStringMap(reader, parameterDescriptions, UNESCAPE);
+                    break;
+
+                case "returns":
+                    returns = readString(reader);
+                    break;
+
+                case "returnsDescription":
+                    returnsDescription = readString(reader);
+                    break;
+
+                case "throws":
+                    readThrows(reader, throwing);
+                    break;
+
+                default:
+                    reader.skipValue();
+            }
+        }
+
+        reader.readEndDocument();
+        return new MethodMetadata(owner, parameters, parameterDescriptions, returns, returnsDescription, throwing);
+    }
+
+    @Override
+    public void encode(@NotNull final BsonWriter writer, @NotNull final MethodMetadata value,
+                       @NotNull final EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        writer.writeString("owner", value.getOwner());
+        writeStrings(writer, "parameters", value.getParameters(), ESCAPE);
+        writeStringMap(writer, "parameterDescriptions", value.getParameterDescriptions(), ESCAPE);
+        writer.writeString("returns", value.getReturns());
+        writer.writeString("returnsDescription", value.getReturnsDescription());
+        writer.writeStartArray("throws");
+
+        for (final Map.Entry<String, String> entry : value.getThrows()) {
+            writer.writeStartDocument();
+            writer.writeString("key", entry.getKey());
+            writer.writeString("value", entry.getValue());
+            writer.writeEndDocument();
+        }
+
+        writer.writeEndArray();
+        writer.writeEndDocument();
+    }
+
+    @NotNull
+    @Override
+    public Class<MethodMetadata> getEncoderClass() {
+        return MethodMetadata.class;
+    }
+
+    private static void readThrows(@NotNull final BsonReader reader, @NotNull final Set<Map.Entry<String, String>> throwing) {
+        if (reader.getCurrentBsonType() == BsonType.NULL) {
+            reader.readNull();
+            return;
+        }
+
+        reader.readStartArray();
+
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            final Map<String, String> entry = new HashMap<>();
+            readStringMap(reader, entry, UnaryOperator.identity());
+            throwing.add(Map.entry(entry.getOrDefault("key", ""), entry.getOrDefault("value", "")));
+        }
+
+        reader.readEndArray();
+    }
+}
@@ -0,0 +1,111 @@
+package me.piggypiglet.docdex.db.codec;
+
+import me.piggypiglet.docdex.documentation.objects.type.TypeMetadata;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static me.piggypiglet.docdex.db.codec.utils.BsonUtils.readStrings;
+import static me.piggypiglet.docdex.db.codec.utils.BsonUtils.writeStrings;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+public final class TypeMetadataCodec implements Codec<TypeMetadata> {
+    @NotNull
+    @Override
+    public TypeMetadata decode(@NotNull final BsonReader reader, @NotNull final DecoderContext decoderContext) {
+        final Set<String> extensions = new HashSet<>();
+        final Set<String> implementations = new HashSet<>();
+        final Set<String> allImplementations = new HashSet<>();
+        final Set<String> superInterfaces = new HashSet<>();
+        final Set<String> subInterfaces = new HashSet<>();
+        final Set<String> subClasses = new HashSet<>();
+        final Set<String> implementingClasses = new HashSet<>();
+        final Set<String> methods = new HashSet<>();
+        final Set<String> fields = new HashSet<>();
+
+        reader.readStartDocument();
+
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case "extensions":
+                    readStrings(reader, extensions);
+                    break;
+
+                case "implementations":
+                    readStrings(reader, implementations);
+                    break;
+
+                case "allImplementations":
+                    readStrings(reader, allImplementations);
+                    break;
+
+                case "superInterfaces":
+                    readStrings(reader, superInterfaces);
+                    break;
+
+                case "subInterfaces":
+                    readStrings(reader, subInterfaces);
+                    break;
+
+                case "subClasses":
+                    readStrings(reader, subClasses);
+                    break;
+
+                case "implementingClasses":
+                    readStrings(reader, implementingClasses);
+                    break;
+
+                case "methods":
+                    readStrings(reader, methods);
+                    break;
+
+                case "fields":
+                    readStrings(reader, fields);
+                    break;
+
+                default:
+                    reader.skipValue();
+            }
+        }
+
+        reader.readEndDocument();
+
+        final TypeMetadata metadata = new TypeMetadata(extensions, implementations, allImplementations, superInterfaces,
+                subInterfaces, subClasses, implementingClasses);
+        metadata.getMethods().addAll(methods);
+        metadata.getFields().addAll(fields);
+        return metadata;
+    }
+
+    @Override
+    public void encode(@NotNull final BsonWriter writer, @NotNull final TypeMetadata value,
+                       @NotNull final EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        writeStrings(writer, "extensions", value.getExtensions());
+        writeStrings(writer, "implementations", value.getImplementations());
+        writeStrings(writer, "allImplementations", value.getAllImplementations());
+        writeStrings(writer, "superInterfaces", value.getSuperInterfaces());
+        writeStrings(writer, "subInterfaces", value.getSubInterfaces());
+        writeStrings(writer, "subClasses", value.getSubClasses());
+        writeStrings(writer, "implementingClasses", value.getImplementingClasses());
+        writeStrings(writer, "methods", value.getMethods());
+        writeStrings(writer, "fields", value.getFields());
+        writer.writeEndDocument();
+    }
+
+    @NotNull
+    @Override
+    public Class<TypeMetadata> getEncoderClass() {
+        return TypeMetadata.class;
+    }
+}
@@ -0,0 +1,95 @@
+package me.piggypiglet.docdex.db.codec.utils;
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+public final class BsonUtils {
+    private BsonUtils() {
+        throw new AssertionError("This class cannot be instantiated.");
+    }
+
+    // older documents were written through gson, which left out nulls rather than storing them, but guard anyway
+    @NotNull
+    public static String readString(@NotNull final BsonReader reader) {
+        if (reader.getCurrentBsonType() == BsonType.NULL) {
+            reader.readNull();
+            return "";
+        }
+
+        return reader.readString();
+    }
+
+    public static void readStrings(@NotNull final BsonReader reader, @NotNull final Collection<String> strings,
+                                   @NotNull final UnaryOperator<String> mapper) {
+        if (reader.getCurrentBsonType() == BsonType.NULL) {
+            reader.readNull();
+            return;
+        }
+
+        reader.readStartArray();
+
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            strings.add(mapper.apply(readString(reader)));
+        }
+
+        reader.readEndArray();
+    }
+
+    public static void readStrings(@NotNull final BsonReader reader, @NotNull final Collection<String> strings) {
+        readStrings(reader, strings, UnaryOperator.identity());
+    }
+
+    public static void readStringMap(@NotNull final BsonReader reader, @NotNull final Map<String, String> map,
+                                     @NotNull final UnaryOperator<String> keyMapper) {
+        if (reader.getCurrentBsonType() == BsonType.NULL) {
+            reader.readNull();
+            return;
+        }
+
+        reader.readStartDocument();
+
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            final String key = keyMapper.apply(reader.readName());
+            map.put(key, readString(reader));
+        }
+
+        reader.readEndDocument();
+    }
+
+    public static void writeStrings(@NotNull final BsonWriter writer, @NotNull final String name,
+                                    @NotNull final Collection<String> strings, @NotNull final UnaryOperator<String> mapper) {
+        writer.writeStartArray(name);
+
+        for (final String string : strings) {
+            writer.writeString(mapper.apply(string));
+        }
+
+        writer.writeEndArray();
+    }
+
+    public static void writeStrings(@NotNull final BsonWriter writer, @NotNull final String name,
+                                    @NotNull final Collection<String> strings) {
+        writeStrings(writer, name, strings, UnaryOperator.identity());
+    }
+
+    public static void writeStringMap(@NotNull final BsonWriter writer, @NotNull final String name,
+                                      @NotNull final Map<String, String> map, @NotNull final UnaryOperator<String> keyMapper) {
+        writer.writeStartDocument(name);
+
+        for (final Map.Entry<String, String> entry : map.entrySet()) {
+            writer.writeString(keyMapper.apply(entry.getKey()), entry.getValue());
+        }
+
+        writer.writeEndDocument();
+    }
+}
@@ -1,9 +1,15 @@
 package me.piggypiglet.docdex.db.objects;
 
+import me.piggypiglet.docdex.documentation.index.objects.DocumentedObjectKey;
 import me.piggypiglet.docdex.documentation.objects.DocumentedObject;
+import me.piggypiglet.docdex.documentation.objects.DocumentedTypes;
+import me.piggypiglet.docdex.documentation.objects.MongoDocumentedObjectFields;
+import me.piggypiglet.docdex.documentation.utils.DataUtils;
+import me.piggypiglet.docdex.documentation.utils.ParameterTypes;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Map;
 import java.util.Objects;
 
 // ------------------------------
@@ -47,11 +53,80 @@ public final class MongoDocumentedObject {
         return object;
     }
 
+    @NotNull
+    public String get(@NotNull final MongoDocumentedObjectFields field) {
+        switch (field) {
+            case IDENTIFIER:
+                return identifier;
+
+            case NAME:
+                return name;
+
+            case FQN:
+                return fqn;
+
+            case FULL_PARAMS:
+                return fullParams;
+
+            case TYPE_PARAMS:
+                return typeParams;
+
+            case FQN_TYPE_PARAMS:
+                return fqnTypeParams;
+
+            case NAME_PARAMS:
+                return nameParams;
+
+            case FQN_NAME_PARAMS:
+                return fqnNameParams;
+        }
+
+        throw new AssertionError("Something went extremely impossibly wrong");
+    }
+
+    // see DocumentedObjectKey#isInherited
+    public boolean isInherited() {
+        return !fqn.equals(DataUtils.getFqn(object).toLowerCase());
+    }
+
     @NotNull
     public static Builder builder(@NotNull final DocumentedObject object) {
         return new Builder(object);
     }
 
+    @NotNull
+    public static MongoDocumentedObject of(@NotNull final DocumentedObjectKey key, @NotNull final DocumentedObject object) {
+        final MongoDocumentedObject.Builder builder = MongoDocumentedObject.builder(object)
+                .name(key.getName())
+                .fqn(key.getFqn());
+        final String fqn = key.getFqn();
+
+        if (object.getType() == DocumentedTypes.METHOD || object.getType() == DocumentedTypes.CONSTRUCTOR) {
+            final Map<ParameterTypes, String> params = key.getParams();
+            final String name = key.getName();
+
+            final String fullParams = '(' + params.get(ParameterTypes.FULL) + ')';
+            final String typeParams = '(' + params.get(ParameterTypes.TYPE) + ')';
+            final String nameParams = '(' + params.get(ParameterTypes.NAME) + ')';
+
+            builder.identifier(fqn + fullParams)
+                    .fullParams(name + fullParams)
+                    .typeParams(name + typeParams)
+                    .fqnTypeParams(fqn + typeParams)
+                    .nameParams(name + nameParams)
+                    .fqnNameParams(fqn + nameParams);
+        } else {
+            builder.identifier(fqn)
+                    .fullParams("")
+                    .typeParams("")
+                    .fqnTypeParams("")
+                    .nameParams("")
+                    .fqnNameParams("");
+        }
+
+        return builder.build();
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) return true;
@@ -1,13 +1,22 @@
 package me.piggypiglet.docdex.documentation.index;
 
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.Multimap;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterators;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import me.piggypiglet.docdex.config.Config;
 import me.piggypiglet.docdex.config.Javadoc;
 import me.piggypiglet.docdex.documentation.index.algorithm.Algorithm;
 import me.piggypiglet.docdex.documentation.index.algorithm.AlgorithmOption;
+import me.piggypiglet.docdex.documentation.index.cache.QueryCache;
+import me.piggypiglet.docdex.documentation.index.dictionary.MethodTable;
+import me.piggypiglet.docdex.documentation.index.ngram.NGramIndex;
 import me.piggypiglet.docdex.documentation.index.objects.DocumentedObjectKey;
+import me.piggypiglet.docdex.documentation.index.query.ParsedQuery;
+import me.piggypiglet.docdex.documentation.index.query.QueryKind;
+import me.piggypiglet.docdex.documentation.index.search.SearchExecutor;
+import me.piggypiglet.docdex.documentation.index.storage.QueryableStorage;
+import me.piggypiglet.docdex.documentation.index.storage.implementations.MemoryStorage;
 import me.piggypiglet.docdex.documentation.index.storage.implementations.MongoStorage;
 import me.piggypiglet.docdex.documentation.index.utils.StreamUtils;
 import me.piggypiglet.docdex.documentation.objects.DocumentedObject;
@@ -16,10 +25,11 @@ import me.piggypiglet.docdex.documentation.objects.MongoDocumentedObjectFields;
 import me.piggypiglet.docdex.documentation.utils.DataUtils;
 import me.piggypiglet.docdex.documentation.utils.ParameterTypes;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.regex.Pattern;
+import java.util.function.BiFunction;
+import java.util.function.IntFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -29,224 +39,257 @@ import java.util.stream.Stream;
 // ------------------------------
 @Singleton
 public final class DocumentationIndex {
-    private static final Pattern PARAMETER_DELIMITER = Pattern.compile(",");
+    private static final int WINDOW_FACTOR = 4;
+    private static final int OWNER_CANDIDATES = 3;
+    private static final BiFunction<MongoDocumentedObjectFields, String, String> AS_NAMED = (field, name) -> name;
 
-    private final Multimap<Javadoc, String> types = HashMultimap.create();
-    private final Multimap<Javadoc, String> fqnTypes = HashMultimap.create();
-    private final Multimap<Javadoc, String> fields = HashMultimap.create();
-    private final Multimap<Javadoc, String> fqnFields = HashMultimap.create();
+    // copy on write, readers never lock
+    private volatile Map<Javadoc, Generation> indexes = ImmutableMap.of();
+    // only touched under the swap's lock
+    private int generations = 0;
 
-    private final Map<Javadoc, Multimap<String, String>> fullMethods = new ConcurrentHashMap<>();
-    private final Map<Javadoc, Multimap<String, String>> fullFqnMethods = new ConcurrentHashMap<>();
-    private final Map<Javadoc, Multimap<String, String>> typeMethods = new ConcurrentHashMap<>();
-    private final Map<Javadoc, Multimap<String, String>> typeFqnMethods = new ConcurrentHashMap<>();
-    private final Map<Javadoc, Multimap<String, String>> nameMethods = new ConcurrentHashMap<>();
-    private final Map<Javadoc, Multimap<String, String>> nameFqnMethods = new ConcurrentHashMap<>();
-
-    private final MongoStorage storage;
+    private final QueryableStorage storage;
+    private final QueryCache cache;
+    private final SearchExecutor search;
 
     @Inject
-    public DocumentationIndex(@NotNull final MongoStorage storage) {
-        this.storage = storage;
+    public DocumentationIndex(@NotNull final Config config, @NotNull final MongoStorage mongoStorage,
+                              @NotNull final MemoryStorage memoryStorage, @NotNull final QueryCache cache,
+                              @NotNull final SearchExecutor search) {
+        storage = config.getIndex().isResidentObjects() ? memoryStorage : mongoStorage;
+        this.cache = cache;
+        this.search = search;
     }
 
     public void populate(@NotNull final Javadoc javadoc, @NotNull final Map<DocumentedObjectKey, DocumentedObject> objects) {
-        Stream.of(
-                fullMethods, fullFqnMethods, typeMethods, typeFqnMethods,
-                nameMethods, nameFqnMethods
-        ).forEach(map -> map.put(javadoc, HashMultimap.create()));
-
-        for (final Map.Entry<DocumentedObjectKey, DocumentedObject> entry : objects.entrySet()) {
-            final DocumentedObjectKey key = entry.getKey();
-            final String name = key.getName();
-            final String fqn = key.getFqn();
-            final DocumentedObject object = entry.getValue();
-            final Multimap<Javadoc, String> names;
-            final Multimap<Javadoc, String> fqns;
-
-            switch (object.getType()) {
-                case CLASS:
-                case INTERFACE:
-                case ANNOTATION:
-                case ENUM:
-                    names = types;
-                    fqns = fqnTypes;
-                    break;
-
-                case CONSTRUCTOR:
-                case METHOD:
-                    final Map<ParameterTypes, String> params = DataUtils.getParams(object);
-                    final String fullParam = params.get(ParameterTypes.FULL);
-                    final String typeParam = params.get(ParameterTypes.TYPE);
-                    final String nameParam = params.get(ParameterTypes.NAME);
-
-                    fullMethods.get(javadoc).put(name, fullParam);
-                    fullFqnMethods.get(javadoc).put(fqn, fullParam);
-                    typeMethods.get(javadoc).put(name, typeParam);
-                    typeFqnMethods.get(javadoc).put(fqn, typeParam);
-                    nameMethods.get(javadoc).put(name, nameParam);
-                    nameFqnMethods.get(javadoc).put(fqn, nameParam);
-                    continue;
-
-                case FIELD:
-                    names = fields;
-                    fqns = fqnFields;
-                    break;
+        final JavadocIndex index = JavadocIndex.of(objects);
 
-                default:
-                    continue;
-            }
+        synchronized (this) {
+            final Map<Javadoc, Generation> indexes = new HashMap<>(this.indexes);
 
-            fqns.put(javadoc, fqn);
-            names.put(javadoc, name);
+            indexes.put(javadoc, new Generation(++generations, index));
+            this.indexes = ImmutableMap.copyOf(indexes);
         }
+
+        cache.invalidate(javadoc);
     }
 
     @NotNull
-    public List<DocumentedObjectResult> get(@NotNull final Javadoc javadoc, @NotNull String query,
+    public List<DocumentedObjectResult> get(@NotNull final Javadoc javadoc, @NotNull final ParsedQuery query,
                                             @NotNull final Algorithm algorithm, @NotNull final AlgorithmOption algorithmOption,
                                             final int limit) {
-        query = query.toLowerCase();
-        final Multimap<Javadoc, String> map;
-
-        if (query.contains(".")) {
-            if (query.contains("#")) {
-                return getMethods(javadoc, query, true, algorithm, algorithmOption, limit);
-            } else if (query.contains("%")) {
-                map = fqnFields;
-            } else {
-                map = fqnTypes;
-            }
-        } else if (query.contains("#")) {
-            return getMethods(javadoc, query, false, algorithm, algorithmOption, limit);
-        } else if (query.contains("%")) {
-            map = fields;
-        } else {
-            map = types;
+        final Generation generation = indexes.get(javadoc);
+
+        if (generation == null) {
+            return Collections.emptyList();
         }
 
-        final MongoDocumentedObjectFields field;
+        final JavadocIndex index = generation.index;
+        final MongoDocumentedObjectFields exactMatch = index.getExactMatch(query.getQuery());
+
+        if (exactMatch != null) {
+            final List<DocumentedObjectResult> results = getFromStorage(List.of(Map.entry(exactMatch, query.getQuery())), javadoc, limit);
 
-        if (query.contains(".")) {
-            field = MongoDocumentedObjectFields.IDENTIFIER;
-        } else {
-            field = MongoDocumentedObjectFields.NAME;
+            if (!results.isEmpty()) {
+                return results;
+            }
+        } else if (query.getKind() == QueryKind.METHOD) {
+            final List<DocumentedObjectResult> results = getInheritedExactMatch(index, javadoc, query, limit);
+
+            if (!results.isEmpty()) {
+                return results;
+            }
         }
 
-        if (map.isEmpty()) {
+        return cache.get(javadoc, generation.number, query.getQuery(), algorithm, algorithmOption, limit,
+                () -> search(index, javadoc, query, algorithm, algorithmOption, limit));
+    }
+
+    // heir#method(params), from the nearest ancestor declaring it
+    @NotNull
+    private List<DocumentedObjectResult> getInheritedExactMatch(@NotNull final JavadocIndex index, @NotNull final Javadoc javadoc,
+                                                                @NotNull final ParsedQuery query, final int limit) {
+        final String owner = query.getOwner();
+        final Inheritance inheritance = owner.isEmpty() ? null : Inheritance.of(index, query.isFqn(), List.of(owner));
+        final String declaration = inheritance == null ? null : inheritance.getDeclaration(query.getQuery());
+
+        if (declaration == null) {
             return Collections.emptyList();
         }
 
-        return getFromStorage(getNames(map.get(javadoc), query, algorithm, algorithmOption), javadoc, field, limit);
+        return getFromStorage(List.of(Map.entry(index.getExactMatch(declaration), query.getQuery())), javadoc, limit,
+                (ignored, queried) -> declaration);
     }
 
+    // the owner if it's a type, otherwise the types closest to it
     @NotNull
-    private List<DocumentedObjectResult> getMethods(@NotNull final Javadoc javadoc, @NotNull String query,
-                                                    final boolean fqn, @NotNull final Algorithm algorithm,
-                                                    @NotNull final AlgorithmOption algorithmOption, final int limit) {
-        query = query.replace(", ", ",");
+    private List<String> getOwners(@NotNull final JavadocIndex index, @NotNull final ParsedQuery query,
+                                   @NotNull final Algorithm algorithm, @NotNull final AlgorithmOption algorithmOption) {
+        final boolean fqn = query.isFqn();
+        final String owner = query.getOwner();
+
+        if (owner.isEmpty()) {
+            return Collections.emptyList();
+        }
 
-        final String methodQuery;
-        final String parameterQuery;
+        if (index.getTypes(fqn).contains(owner)) {
+            return List.of(owner);
+        }
 
-        if (query.contains("(")) {
-            final int openIndex = query.indexOf('(');
-            methodQuery = query.substring(0, openIndex);
+        return search.topByAlgorithm(index.getTypes(fqn), index.getTypeGrams(fqn), owner, algorithm, algorithmOption, OWNER_CANDIDATES);
+    }
 
-            if (query.endsWith(")")) {
-                final int closingIndex = query.lastIndexOf(')');
-                parameterQuery = query.substring(openIndex, closingIndex);
-            } else {
-                parameterQuery = query.substring(openIndex);
-            }
-        } else {
-            methodQuery = query;
-            parameterQuery = "";
+    @NotNull
+    private List<DocumentedObjectResult> search(@NotNull final JavadocIndex index, @NotNull final Javadoc javadoc,
+                                                @NotNull final ParsedQuery query, @NotNull final Algorithm algorithm,
+                                                @NotNull final AlgorithmOption algorithmOption, final int limit) {
+        final boolean fqn = query.isFqn();
+        final Set<String> names;
+        final NGramIndex grams;
+
+        switch (query.getKind()) {
+            case METHOD:
+                return getMethods(index, javadoc, query, algorithm, algorithmOption, limit);
+
+            case FIELD:
+                names = index.getFields(fqn);
+                grams = index.getFieldGrams(fqn);
+                break;
+
+            default:
+                names = index.getTypes(fqn);
+                grams = index.getTypeGrams(fqn);
+                break;
         }
 
-        final boolean full = parameterQuery.isBlank() || Arrays.stream(PARAMETER_DELIMITER.split(parameterQuery))
-                .map(String::trim)
-                .anyMatch(parameter -> parameter.contains(" "));
+        final MongoDocumentedObjectFields field = fqn ? MongoDocumentedObjectFields.IDENTIFIER : MongoDocumentedObjectFields.NAME;
+
+        return getFromStorage(window -> toKeys(getNames(names, grams, query.getQuery(), algorithm, algorithmOption, window), field),
+                javadoc, limit);
+    }
 
-        final Multimap<String, String> fullMethods = (fqn ? fullFqnMethods : this.fullMethods).get(javadoc);
-        final Multimap<String, String> typeMethods = (fqn ? typeFqnMethods : this.typeMethods).get(javadoc);
-        final Multimap<String, String> nameMethods = (fqn ? nameFqnMethods : this.nameMethods).get(javadoc);
+    @NotNull
+    private List<DocumentedObjectResult> getMethods(@NotNull final JavadocIndex index, @NotNull final Javadoc javadoc,
+                                                    @NotNull final ParsedQuery query, @NotNull final Algorithm algorithm,
+                                                    @NotNull final AlgorithmOption algorithmOption, final int limit) {
+        final boolean fqn = query.isFqn();
+        final String methodQuery = query.getName();
+        final String parameterQuery = query.getParameters();
+        final boolean full = query.hasFullParameters();
+
+        final MethodTable fullMethods = index.getFullMethods(fqn);
+        final MethodTable typeMethods = index.getTypeMethods(fqn);
+        final MethodTable nameMethods = index.getNameMethods(fqn);
+        final NGramIndex grams = index.getMethodGrams(fqn);
+        final Inheritance inheritance = Inheritance.of(index, fqn, getOwners(index, query, algorithm, algorithmOption));
+        final BiFunction<MongoDocumentedObjectFields, String, String> resolver = inheritance == null ? AS_NAMED : inheritance::resolve;
 
         if (full) {
-            return getFromStorage(
-                    toFormattedMethodNames(getMethodNames(fullMethods, methodQuery, parameterQuery, algorithm, algorithmOption)),
-                    javadoc, DataUtils.fromParameterType(ParameterTypes.FULL, fqn), limit
-            );
+            final MongoDocumentedObjectFields field = DataUtils.fromParameterType(ParameterTypes.FULL, fqn);
+
+            return getFromStorage(window -> toKeys(toFormattedMethodNames(
+                    getMethodNames(fullMethods, inheritance, grams, methodQuery, parameterQuery, algorithm, algorithmOption, window)
+            ), field), javadoc, limit, resolver);
         }
 
-        final List<Map.Entry<String, String>> names = getMethodNames(nameMethods, methodQuery, parameterQuery, algorithm, algorithmOption);
+        final int window = limit * WINDOW_FACTOR;
+        final List<Map.Entry<String, String>> names = getMethodNames(nameMethods, inheritance, grams, methodQuery, parameterQuery, algorithm, algorithmOption, window);
 
         if (names.size() == 1) {
-            return getFromStorage(toFormattedMethodNames(names), javadoc, DataUtils.fromParameterType(ParameterTypes.NAME, fqn), limit);
+            final List<Map.Entry<MongoDocumentedObjectFields, String>> keys = toKeys(toFormattedMethodNames(names),
+                    DataUtils.fromParameterType(ParameterTypes.NAME, fqn));
+            return getFromStorage(ignored -> keys, javadoc, limit, resolver);
         }
 
-        final List<Map.Entry<String, String>> types = getMethodNames(typeMethods, methodQuery, parameterQuery, algorithm, algorithmOption);
+        final List<Map.Entry<String, String>> types = getMethodNames(typeMethods, inheritance, grams, methodQuery, parameterQuery, algorithm, algorithmOption, window);
 
         if (types.size() == 1) {
-            return getFromStorage(toFormattedMethodNames(types), javadoc, DataUtils.fromParameterType(ParameterTypes.TYPE, fqn), limit);
+            final List<Map.Entry<MongoDocumentedObjectFields, String>> keys = toKeys(toFormattedMethodNames(types),
+                    DataUtils.fromParameterType(ParameterTypes.TYPE, fqn));
+            return getFromStorage(ignored -> keys, javadoc, limit, resolver);
         }
 
-        final List<Map.Entry<ParameterTypes, String>> keys = Stream.concat(
-                types.stream().map(name -> Map.entry(ParameterTypes.TYPE, name)),
-                names.stream().map(name -> Map.entry(ParameterTypes.NAME, name))
-        )
-                .parallel()
-                .filter(StreamUtils.distinctByKey(entry -> entry.getValue().getKey() + '(' + entry.getValue().getValue() + ')'))
-                .sorted(Comparator.comparingDouble(object -> {
-                    final Map.Entry<String, String> name = object.getValue();
-                    final double methodRatio = algorithm.calculate(name.getKey(), methodQuery, algorithmOption);
-                    final double parameterRatio = parameterQuery.isBlank() ? 0 : algorithm.calculate(name.getValue(), parameterQuery, algorithmOption);
-
-                    return methodRatio + parameterRatio;
-                }))
-                .map(entry -> Map.entry(entry.getKey(), entry.getValue().getKey() + '(' + entry.getValue().getValue() + ')'))
-                .collect(Collectors.toList());
-        final List<DocumentedObjectResult> results = new ArrayList<>();
-
-        for (final Map.Entry<ParameterTypes, String> key : keys) {
-            final DocumentedObjectResult result = storage.get(javadoc, Map.of(DataUtils.fromParameterType(key.getKey(), fqn).getName(), key.getValue()))
-                    .map(documentedObject -> new DocumentedObjectResult(key.getValue(), documentedObject))
-                    .orElse(null);
-
-            if (result == null || results.stream().map(DocumentedObjectResult::getObject).anyMatch(result.getObject()::equals)) {
-                continue;
-            }
+        return getFromStorage(size -> {
+            final List<Map.Entry<String, String>> rankedTypes = size == window ? types :
+                    getMethodNames(typeMethods, inheritance, grams, methodQuery, parameterQuery, algorithm, algorithmOption, size);
+            final List<Map.Entry<String, String>> rankedNames = size == window ? names :
+                    getMethodNames(nameMethods, inheritance, grams, methodQuery, parameterQuery, algorithm, algorithmOption, size);
+            final List<Map.Entry<ParameterTypes, Map.Entry<String, String>>> candidates = Stream.concat(
+                    rankedTypes.stream().map(name -> Map.entry(ParameterTypes.TYPE, name)),
+                    rankedNames.stream().map(name -> Map.entry(ParameterTypes.NAME, name))
+            )
+                    .filter(StreamUtils.distinctByKey(entry -> entry.getValue().getKey() + '(' + entry.getValue().getValue() + ')'))
+                    .collect(Collectors.toList());
+
+            return search.top(candidates, (object, bound) -> {
+                final Map.Entry<String, String> name = object.getValue();
+                final double methodRatio = algorithm.calculate(name.getKey(), methodQuery, algorithmOption);
+                final double parameterRatio = parameterQuery.isBlank() ? 0 : algorithm.calculate(name.getValue(), parameterQuery, algorithmOption);
+
+                return methodRatio + parameterRatio;
+            }, size).stream()
+                    .map(entry -> Map.entry(DataUtils.fromParameterType(entry.getKey(), fqn),
+                            entry.getValue().getKey() + '(' + entry.getValue().getValue() + ')'))
+                    .collect(Collectors.toList());
+        }, javadoc, limit, resolver);
+    }
 
-            results.add(result);
+    @NotNull
+    private List<String> getNames(@NotNull final Collection<String> collection, @Nullable final NGramIndex grams,
+                                  @NotNull final String query, @NotNull final Algorithm algorithm,
+                                  @NotNull final AlgorithmOption algorithmOption, final int limit) {
+        return getNames(collection, Collections.emptySet(), grams, query, algorithm, algorithmOption, limit);
+    }
 
-            if (results.size() == limit) {
-                break;
-            }
+    // inherited names aren't in the n-gram index
+    @NotNull
+    private List<String> getNames(@NotNull final Collection<String> collection, @NotNull final Set<String> inherited,
+                                  @Nullable final NGramIndex grams, @NotNull final String query, @NotNull final Algorithm algorithm,
+                                  @NotNull final AlgorithmOption algorithmOption, final int limit) {
+        if (collection.contains(query) || inherited.contains(query)) {
+            return List.of(query);
         }
 
-        return results;
+        final Collection<String> candidates = inherited.isEmpty() ? collection : concat(collection, inherited.stream()
+                .filter(name -> !collection.contains(name))
+                .collect(Collectors.toSet()));
+
+        return search.topByAlgorithm(candidates, grams, query, algorithm, algorithmOption, limit);
     }
 
     @NotNull
-    private List<String> getNames(@NotNull final Collection<String> collection, @NotNull final String query,
-                                  @NotNull final Algorithm algorithm, @NotNull final AlgorithmOption algorithmOption) {
-        if (collection.contains(query)) {
-            return List.of(query);
-        }
+    private static Collection<String> concat(@NotNull final Collection<String> collection1, @NotNull final Set<String> collection2) {
+        return new AbstractCollection<>() {
+            @NotNull
+            @Override
+            public Iterator<String> iterator() {
+                return Iterators.concat(collection1.iterator(), collection2.iterator());
+            }
 
-        return StreamUtils.orderByAlgorithm(collection.parallelStream(), query, algorithm, algorithmOption)
-                .collect(Collectors.toList());
+            @Override
+            public int size() {
+                return collection1.size() + collection2.size();
+            }
+
+            @Override
+            public boolean contains(final Object object) {
+                return collection1.contains(object) || collection2.contains(object);
+            }
+        };
     }
 
     @NotNull
-    private List<Map.Entry<String, String>> getMethodNames(@NotNull final Multimap<String, String> map, @NotNull final String methodQuery,
+    private List<Map.Entry<String, String>> getMethodNames(@NotNull final MethodTable map, @Nullable final Inheritance inheritance,
+                                                           @NotNull final NGramIndex grams, @NotNull final String methodQuery,
                                                            @NotNull final String parameterQuery, @NotNull final Algorithm algorithm,
-                                                           @NotNull final AlgorithmOption algorithmOption) {
-        final List<String> methods = getNames(map.keySet(), methodQuery, algorithm, algorithmOption);
+                                                           @NotNull final AlgorithmOption algorithmOption, final int limit) {
+        final List<String> methods = getNames(map.getMethods(), inheritance == null ? Collections.emptySet() : inheritance.getMethods(),
+                grams, methodQuery, algorithm, algorithmOption, limit);
         final List<Map.Entry<String, String>> results = new ArrayList<>();
 
         for (final String method : methods) {
-            final List<String> parameterResults = getNames(map.get(method), parameterQuery, algorithm, algorithmOption);
+            final List<String> parameters = inheritance == null ? map.getParameters(method) : inheritance.getParameters(map, method);
+            final List<String> parameterResults = getNames(parameters, null, parameterQuery, algorithm, algorithmOption, limit);
 
             for (final String parameterResult : parameterResults) {
                 results.add(Map.entry(method, parameterResult));
@@ -256,6 +299,14 @@ public final class DocumentationIndex {
         return results;
     }
 
+    @NotNull
+    private static List<Map.Entry<MongoDocumentedObjectFields, String>> toKeys(@NotNull final List<String> names,
+                                                                              @NotNull final MongoDocumentedObjectFields field) {
+        return names.stream()
+                .map(name -> Map.entry(field, name))
+                .collect(Collectors.toList());
+    }
+
     @NotNull
     private static List<String> toFormattedMethodNames(@NotNull final List<Map.Entry<String, String>> methods) {
         return methods.stream()
@@ -263,27 +314,77 @@ public final class DocumentationIndex {
                 .collect(Collectors.toList());
     }
 
+    // ranked WINDOW_FACTOR times deeper than limit, and in full only if misses use the window up
     @NotNull
-    private List<DocumentedObjectResult> getFromStorage(@NotNull final List<String> names, @NotNull final Javadoc javadoc,
-                                                        @NotNull final MongoDocumentedObjectFields field, final int limit) {
+    private List<DocumentedObjectResult> getFromStorage(@NotNull final IntFunction<List<Map.Entry<MongoDocumentedObjectFields, String>>> ranking,
+                                                        @NotNull final Javadoc javadoc, final int limit) {
+        return getFromStorage(ranking, javadoc, limit, AS_NAMED);
+    }
+
+    @NotNull
+    private List<DocumentedObjectResult> getFromStorage(@NotNull final IntFunction<List<Map.Entry<MongoDocumentedObjectFields, String>>> ranking,
+                                                        @NotNull final Javadoc javadoc, final int limit,
+                                                        @NotNull final BiFunction<MongoDocumentedObjectFields, String, String> resolver) {
+        final int window = limit * WINDOW_FACTOR;
+        final List<Map.Entry<MongoDocumentedObjectFields, String>> keys = ranking.apply(window);
+        final List<DocumentedObjectResult> results = getFromStorage(keys, javadoc, limit, resolver);
+
+        if (results.size() < limit && keys.size() >= window) {
+            return getFromStorage(ranking.apply(Integer.MAX_VALUE), javadoc, limit, resolver);
+        }
+
+        return results;
+    }
+
+    @NotNull
+    private List<DocumentedObjectResult> getFromStorage(@NotNull final List<Map.Entry<MongoDocumentedObjectFields, String>> keys,
+                                                        @NotNull final Javadoc javadoc, final int limit) {
+        return getFromStorage(keys, javadoc, limit, AS_NAMED);
+    }
+
+    // one lookup per field per batch
+    @NotNull
+    private List<DocumentedObjectResult> getFromStorage(@NotNull final List<Map.Entry<MongoDocumentedObjectFields, String>> keys,
+                                                        @NotNull final Javadoc javadoc, final int limit,
+                                                        @NotNull final BiFunction<MongoDocumentedObjectFields, String, String> resolver) {
+        final int batchSize = Math.max(1, limit * WINDOW_FACTOR);
         final List<DocumentedObjectResult> results = new ArrayList<>();
 
-        for (final String name : names) {
-            final DocumentedObjectResult result = storage.get(javadoc, Map.of(field.getName(), name))
-                    .map(documentedObject -> new DocumentedObjectResult(name, documentedObject))
-                    .orElse(null);
+        for (int from = 0; from < keys.size(); from += batchSize) {
+            final List<Map.Entry<MongoDocumentedObjectFields, String>> batch = keys.subList(from, Math.min(keys.size(), from + batchSize));
+            final Map<MongoDocumentedObjectFields, Map<String, DocumentedObject>> objects = new EnumMap<>(MongoDocumentedObjectFields.class);
 
-            if (result == null || results.stream().map(DocumentedObjectResult::getObject).anyMatch(result.getObject()::equals)) {
-                continue;
-            }
+            batch.stream()
+                    .collect(Collectors.groupingBy(Map.Entry::getKey, () -> new EnumMap<>(MongoDocumentedObjectFields.class),
+                            Collectors.mapping(key -> resolver.apply(key.getKey(), key.getValue()), Collectors.toCollection(LinkedHashSet::new))))
+                    .forEach((field, values) -> objects.put(field, storage.getAll(javadoc, field, values)));
 
-            results.add(result);
+            for (final Map.Entry<MongoDocumentedObjectFields, String> key : batch) {
+                final String name = key.getValue();
+                final DocumentedObject object = objects.get(key.getKey()).get(resolver.apply(key.getKey(), name));
 
-            if (results.size() == limit) {
-                break;
+                if (object == null || results.stream().map(DocumentedObjectResult::getObject).anyMatch(object::equals)) {
+                    continue;
+                }
+
+                results.add(new DocumentedObjectResult(name, object));
+
+                if (results.size() == limit) {
+                    return results;
+                }
             }
         }
 
         return results;
     }
+
+    private static final class Generation {
+        private final int number;
+        private final JavadocIndex index;
+
+        private Generation(final int number, @NotNull final JavadocIndex index) {
+            this.number = number;
+            this.index = index;
+        }
+    }
 }
@@ -0,0 +1,135 @@
+package me.piggypiglet.docdex.documentation.index;
+
+import me.piggypiglet.docdex.documentation.index.dictionary.MethodTable;
+import me.piggypiglet.docdex.documentation.objects.MongoDocumentedObjectFields;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+// the methods a type inherits, worked out per query
+final class Inheritance {
+    private final JavadocIndex index;
+    private final boolean fqn;
+    // owner#method -> ancestor#method, nearest first
+    private final Map<String, List<String>> sources;
+
+    private Inheritance(@NotNull final JavadocIndex index, final boolean fqn, @NotNull final Map<String, List<String>> sources) {
+        this.index = index;
+        this.fqn = fqn;
+        this.sources = sources;
+    }
+
+    @Nullable
+    static Inheritance of(@NotNull final JavadocIndex index, final boolean fqn, @NotNull final Collection<String> owners) {
+        final Map<String, List<String>> sources = new LinkedHashMap<>();
+
+        for (final String owner : owners) {
+            for (final String ancestor : index.getAncestors(owner, fqn)) {
+                final String name = fqn ? ancestor : index.getName(ancestor);
+
+                for (final String method : index.getMembers(ancestor)) {
+                    final String member = method.substring(ancestor.length());
+                    final List<String> methods = sources.computeIfAbsent(owner + member, key -> new ArrayList<>());
+
+                    if (!methods.contains(name + member)) {
+                        methods.add(name + member);
+                    }
+                }
+            }
+        }
+
+        return sources.isEmpty() ? null : new Inheritance(index, fqn, sources);
+    }
+
+    @NotNull
+    Set<String> getMethods() {
+        return sources.keySet();
+    }
+
+    // owner's own overloads first
+    @NotNull
+    List<String> getParameters(@NotNull final MethodTable table, @NotNull final String method) {
+        final List<String> methods = sources.get(method);
+
+        if (methods == null) {
+            return table.getParameters(method);
+        }
+
+        final Set<String> parameters = new LinkedHashSet<>(table.getParameters(method));
+        methods.forEach(source -> parameters.addAll(table.getParameters(source)));
+        return new ArrayList<>(parameters);
+    }
+
+    // owner#method(params) -> the key it's stored under
+    @NotNull
+    String resolve(@NotNull final MongoDocumentedObjectFields field, @NotNull final String name) {
+        final int open = name.indexOf('(');
+
+        if (open == -1) {
+            return name;
+        }
+
+        final String method = name.substring(0, open);
+        final List<String> methods = sources.get(method);
+        final MethodTable table = getTable(field);
+
+        if (methods == null || table == null) {
+            return name;
+        }
+
+        final String parameters = name.substring(open + 1, name.length() - 1);
+
+        if (table.getParameters(method).contains(parameters)) {
+            return name;
+        }
+
+        return methods.stream()
+                .filter(source -> table.getParameters(source).contains(parameters))
+                .findFirst()
+                .map(source -> source + name.substring(open))
+                .orElse(name);
+    }
+
+    @Nullable
+    String getDeclaration(@NotNull final String name) {
+        final int open = name.indexOf('(');
+        final List<String> methods = sources.get(open == -1 ? name : name.substring(0, open));
+
+        if (methods == null) {
+            return null;
+        }
+
+        final String parameters = open == -1 ? "" : name.substring(open);
+
+        return methods.stream()
+                .map(source -> source + parameters)
+                .filter(source -> index.getExactMatch(source) != null)
+                .findFirst()
+                .orElse(null);
+    }
+
+    @Nullable
+    private MethodTable getTable(@NotNull final MongoDocumentedObjectFields field) {
+        switch (field) {
+            case IDENTIFIER:
+            case FULL_PARAMS:
+                return index.getFullMethods(fqn);
+
+            case TYPE_PARAMS:
+            case FQN_TYPE_PARAMS:
+                return index.getTypeMethods(fqn);
+
+            case NAME_PARAMS:
+            case FQN_NAME_PARAMS:
+                return index.getNameMethods(fqn);
+
+            default:
+                return null;
+        }
+    }
+}
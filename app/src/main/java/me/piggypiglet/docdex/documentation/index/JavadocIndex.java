@@ -0,0 +1,311 @@
+package me.piggypiglet.docdex.documentation.index;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import me.piggypiglet.docdex.documentation.index.dictionary.MethodTable;
+import me.piggypiglet.docdex.documentation.index.dictionary.StringDictionary;
+import me.piggypiglet.docdex.documentation.index.ngram.NGramIndex;
+import me.piggypiglet.docdex.documentation.index.objects.DocumentedObjectKey;
+import me.piggypiglet.docdex.documentation.objects.DocumentedObject;
+import me.piggypiglet.docdex.documentation.objects.MongoDocumentedObjectFields;
+import me.piggypiglet.docdex.documentation.objects.type.TypeMetadata;
+import me.piggypiglet.docdex.documentation.utils.DataUtils;
+import me.piggypiglet.docdex.documentation.utils.ParameterTypes;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+final class JavadocIndex {
+    private static final Set<MongoDocumentedObjectFields> METHOD_FIELDS = EnumSet.of(
+            MongoDocumentedObjectFields.FULL_PARAMS, MongoDocumentedObjectFields.TYPE_PARAMS, MongoDocumentedObjectFields.NAME_PARAMS
+    );
+    private static final Set<MongoDocumentedObjectFields> FQN_METHOD_FIELDS = EnumSet.of(
+            MongoDocumentedObjectFields.IDENTIFIER, MongoDocumentedObjectFields.FQN_TYPE_PARAMS, MongoDocumentedObjectFields.FQN_NAME_PARAMS
+    );
+
+    private final Set<String> types;
+    private final Set<String> fqnTypes;
+    private final Set<String> fields;
+    private final Set<String> fqnFields;
+
+    private final MethodTable fullMethods;
+    private final MethodTable fullFqnMethods;
+    private final MethodTable typeMethods;
+    private final MethodTable typeFqnMethods;
+    private final MethodTable nameMethods;
+    private final MethodTable nameFqnMethods;
+
+    private final NGramIndex typeGrams;
+    private final NGramIndex fqnTypeGrams;
+    private final NGramIndex fieldGrams;
+    private final NGramIndex fqnFieldGrams;
+    private final NGramIndex methodGrams;
+    private final NGramIndex fqnMethodGrams;
+
+    private final Map<String, MongoDocumentedObjectFields> exactMatches;
+
+    // type fqn -> its direct supertypes
+    private final Map<String, List<String>> parents;
+    // simple name -> fqns, & back
+    private final Map<String, List<String>> typeFqns;
+    private final Map<String, String> typeNames;
+    // type fqn -> the methods it declares
+    private final Map<String, List<String>> members;
+
+    private JavadocIndex(@NotNull final Set<String> types, @NotNull final Set<String> fqnTypes,
+                         @NotNull final Set<String> fields, @NotNull final Set<String> fqnFields,
+                         @NotNull final MethodTable fullMethods, @NotNull final MethodTable fullFqnMethods,
+                         @NotNull final MethodTable typeMethods, @NotNull final MethodTable typeFqnMethods,
+                         @NotNull final MethodTable nameMethods, @NotNull final MethodTable nameFqnMethods,
+                         @NotNull final Map<String, MongoDocumentedObjectFields> exactMatches,
+                         @NotNull final Map<String, ? extends Collection<String>> parents,
+                         @NotNull final Map<String, String> typeNames,
+                         @NotNull final Map<String, ? extends Collection<String>> members) {
+        // guava's copies keep the iteration order of the sets they're built from, so ties rank the same on every start
+        this.types = ImmutableSet.copyOf(types);
+        this.fqnTypes = ImmutableSet.copyOf(fqnTypes);
+        this.fields = ImmutableSet.copyOf(fields);
+        this.fqnFields = ImmutableSet.copyOf(fqnFields);
+        this.fullMethods = fullMethods;
+        this.fullFqnMethods = fullFqnMethods;
+        this.typeMethods = typeMethods;
+        this.typeFqnMethods = typeFqnMethods;
+        this.nameMethods = nameMethods;
+        this.nameFqnMethods = nameFqnMethods;
+        this.exactMatches = ImmutableMap.copyOf(exactMatches);
+        this.parents = copyOf(parents);
+        this.typeNames = ImmutableMap.copyOf(typeNames);
+        this.members = copyOf(members);
+
+        final Map<String, Set<String>> typeFqns = new HashMap<>();
+        typeNames.forEach((fqn, name) -> typeFqns.computeIfAbsent(name, key -> new TreeSet<>()).add(fqn));
+        this.typeFqns = copyOf(typeFqns);
+
+        typeGrams = new NGramIndex(this.types);
+        fqnTypeGrams = new NGramIndex(this.fqnTypes);
+        fieldGrams = new NGramIndex(this.fields);
+        fqnFieldGrams = new NGramIndex(this.fqnFields);
+        methodGrams = new NGramIndex(fullMethods.getMethods());
+        fqnMethodGrams = new NGramIndex(fullFqnMethods.getMethods());
+    }
+
+    // built in full before it's published & never touched after, so a query never sees half of a rebuild
+    @NotNull
+    static JavadocIndex of(@NotNull final Map<DocumentedObjectKey, DocumentedObject> objects) {
+        // one dictionary per javadoc, so every method & parameter string is held once across all six tables
+        final StringDictionary dictionary = new StringDictionary();
+        final MethodTable.Builder fullMethods = MethodTable.builder(dictionary);
+        final MethodTable.Builder fullFqnMethods = MethodTable.builder(dictionary);
+        final MethodTable.Builder typeMethods = MethodTable.builder(dictionary);
+        final MethodTable.Builder typeFqnMethods = MethodTable.builder(dictionary);
+        final MethodTable.Builder nameMethods = MethodTable.builder(dictionary);
+        final MethodTable.Builder nameFqnMethods = MethodTable.builder(dictionary);
+        final Set<String> types = new HashSet<>();
+        final Set<String> fqnTypes = new HashSet<>();
+        final Set<String> fields = new HashSet<>();
+        final Set<String> fqnFields = new HashSet<>();
+        final Map<String, MongoDocumentedObjectFields> exactMatches = new HashMap<>();
+        final Map<String, Set<String>> members = new HashMap<>();
+        final Map<DocumentedObjectKey, TypeMetadata> typeMetadata = new HashMap<>();
+
+        for (final Map.Entry<DocumentedObjectKey, DocumentedObject> entry : objects.entrySet()) {
+            final DocumentedObjectKey key = entry.getKey();
+            final String name = key.getName();
+            final String fqn = key.getFqn();
+            final DocumentedObject object = entry.getValue();
+            final Set<String> names;
+            final Set<String> fqns;
+
+            switch (object.getType()) {
+                case CLASS:
+                case INTERFACE:
+                case ANNOTATION:
+                case ENUM:
+                    names = types;
+                    fqns = fqnTypes;
+                    typeMetadata.put(key, (TypeMetadata) object.getMetadata());
+                    break;
+
+                case CONSTRUCTOR:
+                case METHOD:
+                    final Map<ParameterTypes, String> params = DataUtils.getParams(object);
+                    final String fullParam = params.get(ParameterTypes.FULL);
+                    final String typeParam = params.get(ParameterTypes.TYPE);
+                    final String nameParam = params.get(ParameterTypes.NAME);
+
+                    fullMethods.put(name, fullParam);
+                    fullFqnMethods.put(fqn, fullParam);
+                    typeMethods.put(name, typeParam);
+                    typeFqnMethods.put(fqn, typeParam);
+                    nameMethods.put(name, nameParam);
+                    nameFqnMethods.put(fqn, nameParam);
+
+                    for (final ParameterTypes type : ParameterTypes.values()) {
+                        final String formattedParams = '(' + params.get(type) + ')';
+
+                        addExactMatch(exactMatches, name + formattedParams, DataUtils.fromParameterType(type, false));
+                        addExactMatch(exactMatches, fqn + formattedParams, DataUtils.fromParameterType(type, true));
+                    }
+
+                    addMember(members, dictionary.get(dictionary.getId(fqn)));
+                    continue;
+
+                case FIELD:
+                    names = fields;
+                    fqns = fqnFields;
+                    break;
+
+                default:
+                    continue;
+            }
+
+            fqns.add(fqn);
+            names.add(name);
+            addExactMatch(exactMatches, name, MongoDocumentedObjectFields.NAME);
+            addExactMatch(exactMatches, fqn, MongoDocumentedObjectFields.IDENTIFIER);
+        }
+
+        final Map<String, String> typeNames = new HashMap<>();
+        typeMetadata.keySet().forEach(key -> typeNames.put(key.getFqn(), key.getName()));
+
+        return new JavadocIndex(types, fqnTypes, fields, fqnFields, fullMethods.build(), fullFqnMethods.build(),
+                typeMethods.build(), typeFqnMethods.build(), nameMethods.build(), nameFqnMethods.build(), exactMatches,
+                getParents(typeMetadata), typeNames, members);
+    }
+
+    private static void addMember(@NotNull final Map<String, Set<String>> members, @NotNull final String method) {
+        members.computeIfAbsent(method.substring(0, method.indexOf('#')), owner -> new LinkedHashSet<>()).add(method);
+    }
+
+    // direct edges only, javadoc's subinterface & implementing class lists are transitive
+    @NotNull
+    private static Map<String, Set<String>> getParents(@NotNull final Map<DocumentedObjectKey, TypeMetadata> types) {
+        final Set<String> fqns = new HashSet<>();
+        final Map<String, Set<String>> parents = new HashMap<>();
+
+        types.keySet().forEach(key -> fqns.add(key.getFqn()));
+        types.forEach((key, metadata) -> {
+            Stream.concat(metadata.getExtensions().stream(), metadata.getImplementations().stream())
+                    .map(JavadocIndex::toFqn)
+                    .filter(fqns::contains)
+                    .forEach(parent -> parents.computeIfAbsent(key.getFqn(), fqn -> new LinkedHashSet<>()).add(parent));
+            metadata.getSubClasses().stream()
+                    .map(JavadocIndex::toFqn)
+                    .filter(fqns::contains)
+                    .forEach(heir -> parents.computeIfAbsent(heir, fqn -> new LinkedHashSet<>()).add(key.getFqn()));
+        });
+
+        return parents;
+    }
+
+    // List<E> -> list
+    @NotNull
+    private static String toFqn(@NotNull final String type) {
+        final int generics = type.indexOf('<');
+        return (generics == -1 ? type : type.substring(0, generics)).toLowerCase();
+    }
+
+    @NotNull
+    private static Map<String, List<String>> copyOf(@NotNull final Map<String, ? extends Collection<String>> map) {
+        final ImmutableMap.Builder<String, List<String>> builder = ImmutableMap.builder();
+        map.forEach((key, values) -> builder.put(key, ImmutableList.copyOf(values)));
+        return builder.build();
+    }
+
+    // only forms the dispatch in search would look the query up by are kept, so an exact hit never returns something fuzzy search couldn't
+    private static void addExactMatch(@NotNull final Map<String, MongoDocumentedObjectFields> exactMatches, @NotNull final String value,
+                                      @NotNull final MongoDocumentedObjectFields field) {
+        final boolean fqn = value.contains(".");
+        final boolean reachable;
+
+        if (value.contains("#")) {
+            reachable = (fqn ? FQN_METHOD_FIELDS : METHOD_FIELDS).contains(field);
+        } else {
+            reachable = field == (fqn ? MongoDocumentedObjectFields.IDENTIFIER : MongoDocumentedObjectFields.NAME);
+        }
+
+        if (reachable) {
+            exactMatches.putIfAbsent(value, field);
+        }
+    }
+
+    @NotNull
+    Set<String> getTypes(final boolean fqn) {
+        return fqn ? fqnTypes : types;
+    }
+
+    @NotNull
+    NGramIndex getTypeGrams(final boolean fqn) {
+        return fqn ? fqnTypeGrams : typeGrams;
+    }
+
+    @NotNull
+    Set<String> getFields(final boolean fqn) {
+        return fqn ? fqnFields : fields;
+    }
+
+    @NotNull
+    NGramIndex getFieldGrams(final boolean fqn) {
+        return fqn ? fqnFieldGrams : fieldGrams;
+    }
+
+    @NotNull
+    MethodTable getFullMethods(final boolean fqn) {
+        return fqn ? fullFqnMethods : fullMethods;
+    }
+
+    @NotNull
+    MethodTable getTypeMethods(final boolean fqn) {
+        return fqn ? typeFqnMethods : typeMethods;
+    }
+
+    @NotNull
+    MethodTable getNameMethods(final boolean fqn) {
+        return fqn ? nameFqnMethods : nameMethods;
+    }
+
+    @NotNull
+    NGramIndex getMethodGrams(final boolean fqn) {
+        return fqn ? fqnMethodGrams : methodGrams;
+    }
+
+    @Nullable
+    MongoDocumentedObjectFields getExactMatch(@NotNull final String query) {
+        return exactMatches.get(query);
+    }
+
+    // breadth first, so the nearest ancestor comes first
+    @NotNull
+    List<String> getAncestors(@NotNull final String type, final boolean fqn) {
+        final List<String> starts = fqn ? List.of(type) : typeFqns.getOrDefault(type, List.of());
+        final Set<String> ancestors = new LinkedHashSet<>();
+        final Queue<String> queue = new ArrayDeque<>(starts);
+
+        while (!queue.isEmpty()) {
+            for (final String parent : parents.getOrDefault(queue.poll(), List.of())) {
+                if (!starts.contains(parent) && ancestors.add(parent)) {
+                    queue.add(parent);
+                }
+            }
+        }
+
+        return new ArrayList<>(ancestors);
+    }
+
+    @NotNull
+    String getName(@NotNull final String type) {
+        return typeNames.getOrDefault(type, type);
+    }
+
+    @NotNull
+    List<String> getMembers(@NotNull final String type) {
+        return members.getOrDefault(type, List.of());
+    }
+}
@@ -0,0 +1,102 @@
+package me.piggypiglet.docdex.documentation.index.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import me.piggypiglet.docdex.config.CacheConfig;
+import me.piggypiglet.docdex.config.Config;
+import me.piggypiglet.docdex.config.Javadoc;
+import me.piggypiglet.docdex.documentation.index.algorithm.Algorithm;
+import me.piggypiglet.docdex.documentation.index.algorithm.AlgorithmOption;
+import me.piggypiglet.docdex.documentation.objects.DocumentedObjectResult;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+@Singleton
+public final class QueryCache {
+    private final Cache<Key, List<DocumentedObjectResult>> cache;
+
+    @Inject
+    public QueryCache(@NotNull final Config config) {
+        final CacheConfig cacheConfig = config.getIndex().getCache();
+
+        cache = CacheBuilder.newBuilder()
+                .maximumSize(cacheConfig.getMaximumSize())
+                .expireAfterWrite(cacheConfig.getExpireAfterSeconds(), TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+    }
+
+    @NotNull
+    public List<DocumentedObjectResult> get(@NotNull final Javadoc javadoc, final int generation, @NotNull final String query,
+                                            @NotNull final Algorithm algorithm, @NotNull final AlgorithmOption algorithmOption,
+                                            final int limit, @NotNull final Supplier<List<DocumentedObjectResult>> loader) {
+        try {
+            return cache.get(new Key(javadoc, generation, query, algorithm, algorithmOption, limit), () -> List.copyOf(loader.get()));
+        } catch (ExecutionException | UncheckedExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exception.getCause();
+            }
+
+            throw new IllegalStateException(exception.getCause());
+        }
+    }
+
+    public void invalidate(@NotNull final Javadoc javadoc) {
+        cache.asMap().keySet().removeIf(key -> key.javadoc.equals(javadoc));
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    @NotNull
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    private static final class Key {
+        private final Javadoc javadoc;
+        // a search that started before a repopulation can't be cached under the index that replaced it
+        private final int generation;
+        private final String query;
+        private final Algorithm algorithm;
+        private final AlgorithmOption algorithmOption;
+        private final int limit;
+
+        private Key(@NotNull final Javadoc javadoc, final int generation, @NotNull final String query,
+                    @NotNull final Algorithm algorithm, @NotNull final AlgorithmOption algorithmOption, final int limit) {
+            this.javadoc = javadoc;
+            this.generation = generation;
+            this.query = query;
+            this.algorithm = algorithm;
+            this.algorithmOption = algorithmOption;
+            this.limit = limit;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            final Key key = (Key) o;
+            return limit == key.limit && generation == key.generation && javadoc.equals(key.javadoc) && query.equals(key.query) && algorithm == key.algorithm && algorithmOption == key.algorithmOption;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(javadoc, generation, query, algorithm, algorithmOption, limit);
+        }
+    }
+}
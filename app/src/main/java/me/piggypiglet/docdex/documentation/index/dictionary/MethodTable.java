@@ -0,0 +1,127 @@
+package me.piggypiglet.docdex.documentation.index.dictionary;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+// method -> parameters adjacency in compressed sparse row form, rows sorted by the method's dictionary id
+public final class MethodTable {
+    private final StringDictionary dictionary;
+    private final int[] methods;
+    private final int[] offsets;
+    private final int[] parameters;
+
+    private MethodTable(@NotNull final StringDictionary dictionary, @NotNull final int[] methods,
+                        @NotNull final int[] offsets, @NotNull final int[] parameters) {
+        this.dictionary = dictionary;
+        this.methods = methods;
+        this.offsets = offsets;
+        this.parameters = parameters;
+    }
+
+    @NotNull
+    public static Builder builder(@NotNull final StringDictionary dictionary) {
+        return new Builder(dictionary);
+    }
+
+    @NotNull
+    public List<String> getMethods() {
+        return new IdList(methods, 0, methods.length);
+    }
+
+    @NotNull
+    public List<String> getParameters(@NotNull final String method) {
+        final int row = getRow(method);
+
+        if (row < 0) {
+            return Collections.emptyList();
+        }
+
+        return new IdList(parameters, offsets[row], offsets[row + 1]);
+    }
+
+    public boolean isEmpty() {
+        return methods.length == 0;
+    }
+
+    private int getRow(@NotNull final Object method) {
+        if (!(method instanceof String)) {
+            return -1;
+        }
+
+        final int id = dictionary.getId((String) method);
+        return id < 0 ? -1 : Arrays.binarySearch(methods, id);
+    }
+
+    private final class IdList extends AbstractList<String> implements RandomAccess {
+        private final int[] ids;
+        private final int from;
+        private final int to;
+
+        private IdList(@NotNull final int[] ids, final int from, final int to) {
+            this.ids = ids;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public String get(final int index) {
+            Objects.checkIndex(index, size());
+            return dictionary.get(ids[from + index]);
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+
+        @Override
+        public boolean contains(final Object object) {
+            if (ids == methods) {
+                return getRow(object) >= 0;
+            }
+
+            return super.contains(object);
+        }
+    }
+
+    public static final class Builder {
+        private final StringDictionary dictionary;
+        private final SortedMap<Integer, Set<Integer>> rows = new TreeMap<>();
+
+        private Builder(@NotNull final StringDictionary dictionary) {
+            this.dictionary = dictionary;
+        }
+
+        @NotNull
+        public Builder put(@NotNull final String method, @NotNull final String parameters) {
+            rows.computeIfAbsent(dictionary.intern(method), id -> new LinkedHashSet<>()).add(dictionary.intern(parameters));
+            return this;
+        }
+
+        @NotNull
+        public MethodTable build() {
+            final int[] methods = new int[rows.size()];
+            final int[] offsets = new int[rows.size() + 1];
+            final int[] parameters = new int[rows.values().stream().mapToInt(Set::size).sum()];
+            int row = 0;
+            int offset = 0;
+
+            for (final Map.Entry<Integer, Set<Integer>> entry : rows.entrySet()) {
+                methods[row] = entry.getKey();
+                offsets[row++] = offset;
+
+                for (final int parameter : entry.getValue()) {
+                    parameters[offset++] = parameter;
+                }
+            }
+
+            offsets[row] = offset;
+            return new MethodTable(dictionary, methods, offsets, parameters);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package me.piggypiglet.docdex.documentation.index.dictionary;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+public final class StringDictionary {
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int EMPTY = -1;
+
+    private String[] strings = new String[INITIAL_CAPACITY];
+    // open addressed, linear probing, slots hold ids into strings
+    private int[] slots = newSlots(INITIAL_CAPACITY * 2);
+    private int size = 0;
+
+    public int intern(@NotNull final String string) {
+        final int slot = findSlot(string);
+
+        if (slots[slot] != EMPTY) {
+            return slots[slot];
+        }
+
+        if (size == strings.length) {
+            strings = Arrays.copyOf(strings, size * 2);
+        }
+
+        final int id = size++;
+        strings[id] = string;
+        slots[slot] = id;
+
+        if (size * 2 > slots.length) {
+            rehash();
+        }
+
+        return id;
+    }
+
+    // -1 if the string was never interned
+    public int getId(@NotNull final String string) {
+        return slots[findSlot(string)];
+    }
+
+    @NotNull
+    public String get(final int id) {
+        return strings[id];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int findSlot(@NotNull final String string) {
+        final int mask = slots.length - 1;
+        int slot = mix(string.hashCode()) & mask;
+
+        while (slots[slot] != EMPTY && !strings[slots[slot]].equals(string)) {
+            slot = (slot + 1) & mask;
+        }
+
+        return slot;
+    }
+
+    private void rehash() {
+        slots = newSlots(slots.length * 2);
+        final int mask = slots.length - 1;
+
+        for (int id = 0; id < size; ++id) {
+            int slot = mix(strings[id].hashCode()) & mask;
+
+            while (slots[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+
+            slots[slot] = id;
+        }
+    }
+
+    private static int mix(final int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    @NotNull
+    private static int[] newSlots(final int capacity) {
+        final int[] slots = new int[capacity];
+        Arrays.fill(slots, EMPTY);
+        return slots;
+    }
+}
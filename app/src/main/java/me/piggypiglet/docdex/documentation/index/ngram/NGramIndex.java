@@ -0,0 +1,114 @@
+package me.piggypiglet.docdex.documentation.index.ngram;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+public final class NGramIndex {
+    private static final int GRAM_LENGTH = 3;
+    private static final char PADDING = '\u0000';
+    private static final int[] EMPTY = new int[0];
+
+    private final String[] strings;
+    private final Map<String, Integer> ids;
+    private final Map<Long, int[]> postings;
+
+    public NGramIndex(@NotNull final Collection<String> strings) {
+        this.strings = strings.toArray(new String[0]);
+        ids = new HashMap<>(this.strings.length * 2);
+
+        for (int i = 0; i < this.strings.length; ++i) {
+            ids.put(this.strings[i], i);
+        }
+
+        final Map<Long, List<Integer>> postings = new HashMap<>();
+
+        for (int i = 0; i < this.strings.length; ++i) {
+            for (final long gram : grams(this.strings[i])) {
+                postings.computeIfAbsent(gram, key -> new ArrayList<>()).add(i);
+            }
+        }
+
+        this.postings = new HashMap<>(postings.size());
+        postings.forEach((gram, ids) -> this.postings.put(gram, ids.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    public int size() {
+        return strings.length;
+    }
+
+    // returned in index order rather than gram count order, so ties still resolve like a full scan would
+    @NotNull
+    public List<String> candidates(@NotNull final String query, final int max) {
+        final int[] counts = new int[strings.length];
+        final List<Integer> touched = new ArrayList<>();
+
+        for (final long gram : grams(query)) {
+            for (final int id : postings.getOrDefault(gram, EMPTY)) {
+                if (counts[id]++ == 0) {
+                    touched.add(id);
+                }
+            }
+        }
+
+        if (touched.size() > max) {
+            touched.sort(Comparator.<Integer>comparingInt(id -> counts[id]).reversed()
+                    .thenComparingInt(id -> Math.abs(strings[id].length() - query.length()))
+                    .thenComparingInt(id -> id));
+            touched.subList(max, touched.size()).clear();
+        }
+
+        return touched.stream()
+                .sorted()
+                .map(id -> strings[id])
+                .collect(Collectors.toList());
+    }
+
+    // a lower bound on the levenshtein distance, an edit breaks at most GRAM_LENGTH of the query's grams
+    @NotNull
+    public ToIntFunction<String> minimumEdits(@NotNull final String query) {
+        final Set<Long> grams = grams(query);
+        final int[] counts = new int[strings.length];
+
+        for (final long gram : grams) {
+            for (final int id : postings.getOrDefault(gram, EMPTY)) {
+                ++counts[id];
+            }
+        }
+
+        return string -> {
+            final int lengthDifference = Math.abs(string.length() - query.length());
+            final Integer id = ids.get(string);
+
+            if (id == null) {
+                return lengthDifference;
+            }
+
+            return Math.max(lengthDifference, (grams.size() - counts[id] + GRAM_LENGTH - 1) / GRAM_LENGTH);
+        };
+    }
+
+    @NotNull
+    private static Set<Long> grams(@NotNull final String string) {
+        final String padded = PADDING + string + PADDING;
+        final Set<Long> grams = new HashSet<>();
+
+        for (int i = 0; i + GRAM_LENGTH <= padded.length(); ++i) {
+            long gram = 0;
+
+            for (int j = 0; j < GRAM_LENGTH; ++j) {
+                gram = (gram << Character.SIZE) | padded.charAt(i + j);
+            }
+
+            grams.add(gram);
+        }
+
+        return grams;
+    }
+}
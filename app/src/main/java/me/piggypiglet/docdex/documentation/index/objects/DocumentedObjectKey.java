@@ -1,5 +1,7 @@
 package me.piggypiglet.docdex.documentation.index.objects;
 
+import me.piggypiglet.docdex.documentation.objects.DocumentedObject;
+import me.piggypiglet.docdex.documentation.utils.DataUtils;
 import me.piggypiglet.docdex.documentation.utils.ParameterTypes;
 import org.jetbrains.annotations.NotNull;
 
@@ -37,6 +39,11 @@ public final class DocumentedObjectKey {
         return params;
     }
 
+    // a copy of an ancestor's method, older crawls wrote one per heir
+    public boolean isInherited(@NotNull final DocumentedObject object) {
+        return !fqn.equals(DataUtils.getFqn(object).toLowerCase());
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) return true;
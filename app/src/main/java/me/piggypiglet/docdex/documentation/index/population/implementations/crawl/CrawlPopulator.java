@@ -0,0 +1,228 @@
+package me.piggypiglet.docdex.documentation.index.population.implementations.crawl;
+
+import com.google.common.collect.Lists;
+import me.piggypiglet.docdex.config.Config;
+import me.piggypiglet.docdex.config.Javadoc;
+import me.piggypiglet.docdex.documentation.index.objects.DocumentedObjectKey;
+import me.piggypiglet.docdex.documentation.index.population.IndexPopulator;
+import me.piggypiglet.docdex.documentation.index.population.implementations.web.JavadocPageDeserializer;
+import me.piggypiglet.docdex.documentation.index.snapshot.SnapshotFormat;
+import me.piggypiglet.docdex.documentation.objects.DocumentedObject;
+import me.piggypiglet.docdex.documentation.objects.DocumentedTypes;
+import me.piggypiglet.docdex.documentation.objects.detail.method.MethodMetadata;
+import me.piggypiglet.docdex.documentation.utils.DataUtils;
+import me.piggypiglet.docdex.documentation.utils.ParameterTypes;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+// crawls a javadoc through its index pages, wherever those pages are read from
+public abstract class CrawlPopulator implements IndexPopulator {
+    private static final Set<String> TYPE_NAMES = Stream.of(
+            DocumentedTypes.CLASS, DocumentedTypes.INTERFACE,
+            DocumentedTypes.ANNOTATION, DocumentedTypes.ENUM
+    ).map(DocumentedTypes::getName).map(String::toLowerCase).collect(Collectors.toSet());
+    private static final Map<ParameterTypes, String> DEFAULT_PARAMETERS = Arrays.stream(ParameterTypes.values())
+            .collect(Collectors.toMap(parameterType -> parameterType, parameterType -> ""));
+
+    private final Logger logger;
+    private final int pendingPages;
+    private final boolean cache;
+
+    protected CrawlPopulator(@NotNull final String loggerName, @NotNull final Config config) {
+        logger = LoggerFactory.getLogger(loggerName);
+        pendingPages = config.getIndex().getCrawl().getPendingPages();
+        cache = config.getIndex().getCrawl().isCache();
+    }
+
+    // whether this populator knows how to read the pages javadoc links to
+    public abstract boolean canCrawl(@NotNull final Javadoc javadoc);
+
+    @Nullable
+    protected abstract PageSource open(@NotNull final Javadoc javadoc);
+
+    @Override
+    public final boolean shouldPopulate(final @NotNull Javadoc javadoc) {
+        return canCrawl(javadoc) && !(new File("docs", String.join("-", javadoc.getNames()) + ".json").exists()) &&
+                !SnapshotFormat.isReadable(SnapshotFormat.getPath(javadoc));
+    }
+
+    @NotNull
+    @Override
+    public final Map<DocumentedObjectKey, DocumentedObject> provideObjects(@NotNull final Javadoc javadoc) {
+        try (PageSource source = open(javadoc)) {
+            if (source == null) {
+                return Collections.emptyMap();
+            }
+
+            return crawl(javadoc, source);
+        }
+    }
+
+    @NotNull
+    private Map<DocumentedObjectKey, DocumentedObject> crawl(@NotNull final Javadoc javadoc, @NotNull final PageSource source) {
+        final long millis = System.currentTimeMillis();
+        final String javadocName = DataUtils.getName(javadoc);
+        final Document mainDocument = source.get(javadoc.getLink());
+
+        if (mainDocument == null) {
+            return Collections.emptyMap();
+        }
+
+        final Optional<Element> indexAnchor = mainDocument.select("ul.navList > li > a").stream()
+                .filter(element -> element.text().equalsIgnoreCase("index"))
+                .findAny();
+
+        if (indexAnchor.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        final List<Document> documents = Lists.newArrayList(source.get(indexAnchor.get().absUrl("href")));
+        final Document firstDocument = documents.get(0);
+
+        if (firstDocument == null) {
+            return Collections.emptyMap();
+        }
+
+        if (firstDocument.location().endsWith("index-1.html")) {
+            firstDocument.selectFirst(".contentContainer > h2.title").previousElementSiblings().select("a").stream()
+                    .filter(a -> a.hasAttr("href"))
+                    .map(a -> a.absUrl("href"))
+                    .filter(url -> !url.endsWith("index-1.html"))
+                    .map(source::fetch)
+                    .collect(Collectors.toList()).stream()
+                    .map(CompletableFuture::join)
+                    .filter(Objects::nonNull)
+                    .forEach(documents::add);
+        }
+
+        // the sink, every parsing thread adds to it at once
+        final Set<DocumentedObject> objects = ConcurrentHashMap.newKeySet();
+        final Set<Map.Entry<String, String>> types = documents.stream().flatMap(document -> document.select("dl > dt").stream())
+                .map(element -> element.selectFirst("a"))
+                .filter(element -> TYPE_NAMES.stream().anyMatch(element.attr("title").toLowerCase()::startsWith))
+                .map(element -> Map.entry(element.absUrl("href"), element.attr("href")
+                        .replace("../", "").replace("./", "")))
+                .collect(Collectors.toSet());
+
+        logger.info("Indexing {} types for {}", types.size(), javadocName);
+
+        final AtomicInteger i = new AtomicInteger();
+        final AtomicInteger previousPercentage = new AtomicInteger();
+        // a page holds a permit from before it's requested until its objects are in
+        final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        final Semaphore pending = new Semaphore(pendingPages);
+        final List<CompletableFuture<Void>> futures = new ArrayList<>();
+        final PageCache pageCache = cache ? PageCache.open(javadoc) : PageCache.disabled();
+
+        try {
+            for (final Map.Entry<String, String> entry : types) {
+                pending.acquireUninterruptibly();
+
+                futures.add(crawlPage(source, pageCache, entry.getKey(), javadoc.getActualLink() + '/' + entry.getValue(), pool)
+                        .thenAccept(completesExceptionally(pageObjects -> {
+                            synchronized (i) {
+                                final int percentage = (int) ((100D / types.size()) * i.getAndIncrement());
+
+                                if (percentage % 10 == 0 && percentage != previousPercentage.get()) {
+                                    logger.info("{}% done on type indexing for {}", percentage, javadocName);
+                                    previousPercentage.set(percentage);
+                                }
+                            }
+
+                            objects.addAll(pageObjects);
+                        }))
+                        .whenComplete((ignored, throwable) -> pending.release()));
+            }
+
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            pool.shutdown();
+        }
+
+        pageCache.save();
+
+        final Map<DocumentedObjectKey, DocumentedObject> map = objects.stream()
+                .collect(Collectors.toMap(CrawlPopulator::toKey, object -> object, (object1, object2) -> object1));
+
+        logger.info("Finished indexing {} in {} second(s).", javadocName, (System.currentTimeMillis() - millis) / 1000);
+        return map;
+    }
+
+    @NotNull
+    private CompletableFuture<Set<DocumentedObject>> crawlPage(@NotNull final PageSource source, @NotNull final PageCache cache,
+                                                               @NotNull final String url, @NotNull final String link,
+                                                               @NotNull final Executor executor) {
+        final PageCache.Entry cached = cache.get(url);
+
+        return source.fetchPage(url, cached)
+                .thenComposeAsync(page -> {
+                    if (page == null) {
+                        return CompletableFuture.completedFuture(Collections.<DocumentedObject>emptySet());
+                    }
+
+                    if (page.isModified()) {
+                        return CompletableFuture.completedFuture(deserialize(cache, url, link, page));
+                    }
+
+                    final Set<DocumentedObject> objects = cached == null ? null : cache.reuse(url, cached);
+
+                    if (objects != null) {
+                        return CompletableFuture.completedFuture(objects);
+                    }
+
+                    // the cached objects went missing, so ask for the page in full
+                    return source.fetchPage(url, null).thenApplyAsync(fresh -> fresh == null ? Collections.<DocumentedObject>emptySet() :
+                            deserialize(cache, url, link, fresh), executor);
+                }, executor)
+                .exceptionally(throwable -> {
+                    logger.error("Something went wrong when indexing " + url, throwable);
+                    return Collections.emptySet();
+                });
+    }
+
+    @NotNull
+    private static Set<DocumentedObject> deserialize(@NotNull final PageCache cache, @NotNull final String url,
+                                                     @NotNull final String link, @NotNull final Page page) {
+        return cache.deserialize(url, link, page, JavadocPageDeserializer::deserialize, CrawlPopulator::toKey);
+    }
+
+    @NotNull
+    private static DocumentedObjectKey toKey(@NotNull final DocumentedObject object) {
+        return new DocumentedObjectKey(
+                DataUtils.getName(object).toLowerCase(),
+                DataUtils.getFqn(object).toLowerCase(),
+                object.getMetadata() instanceof MethodMetadata ? DataUtils.getParams(object) : DEFAULT_PARAMETERS
+        );
+    }
+
+    @NotNull
+    private <T> Consumer<T> completesExceptionally(@NotNull final Consumer<T> function) {
+        return t -> {
+            try {
+                function.accept(t);
+            } catch (Exception e) {
+                logger.error("", e);
+            }
+        };
+    }
+}
@@ -0,0 +1,86 @@
+package me.piggypiglet.docdex.documentation.index.population.implementations.crawl;
+
+import com.google.common.hash.Hashing;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+// a page as it came off the wire or disk, left unparsed
+public final class Page {
+    private static final byte[] EMPTY = new byte[0];
+
+    private final String location;
+    private final byte[] body;
+    private final boolean modified;
+    private final String etag;
+    private final String lastModified;
+
+    private Page(@NotNull final String location, @NotNull final byte[] body, final boolean modified,
+                 @Nullable final String etag, @Nullable final String lastModified) {
+        this.location = location;
+        this.body = body;
+        this.modified = modified;
+        this.etag = etag;
+        this.lastModified = lastModified;
+    }
+
+    @NotNull
+    public static Page of(@NotNull final String location, @NotNull final byte[] body, @Nullable final String etag,
+                          @Nullable final String lastModified) {
+        return new Page(location, body, true, etag, lastModified);
+    }
+
+    // a 304, the cached copy still stands
+    @NotNull
+    public static Page notModified(@NotNull final String location) {
+        return new Page(location, EMPTY, false, null, null);
+    }
+
+    @NotNull
+    public String getLocation() {
+        return location;
+    }
+
+    public boolean isModified() {
+        return modified;
+    }
+
+    @Nullable
+    public String getEtag() {
+        return etag;
+    }
+
+    @Nullable
+    public String getLastModified() {
+        return lastModified;
+    }
+
+    // objects carry links built from link, so it's hashed too
+    @NotNull
+    public String getHash(@NotNull final String link) {
+        return Hashing.sha256().newHasher()
+                .putString(link, StandardCharsets.UTF_8)
+                .putByte((byte) 0)
+                .putBytes(body)
+                .hash().toString();
+    }
+
+    @NotNull
+    public Document parse() {
+        try {
+            return Jsoup.parse(new ByteArrayInputStream(body), null, location);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
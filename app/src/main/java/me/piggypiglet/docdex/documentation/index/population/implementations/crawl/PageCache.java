@@ -0,0 +1,280 @@
+package me.piggypiglet.docdex.documentation.index.population.implementations.crawl;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import me.piggypiglet.docdex.config.Javadoc;
+import me.piggypiglet.docdex.documentation.index.objects.DocumentedObjectKey;
+import me.piggypiglet.docdex.documentation.index.snapshot.SnapshotFormat;
+import me.piggypiglet.docdex.documentation.index.snapshot.SnapshotReader;
+import me.piggypiglet.docdex.documentation.index.snapshot.SnapshotWriter;
+import me.piggypiglet.docdex.documentation.objects.DocumentedObject;
+import me.piggypiglet.docdex.documentation.utils.DataUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jsoup.nodes.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+// docs/.cache/<javadoc>, each page's validators & hash in pages.json, and the objects it deserialized to in <hash>.dex
+public final class PageCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger("PageCache");
+    private static final Gson GSON = new GsonBuilder()
+            .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+            .create();
+    // bump whenever the deserializer's output changes
+    private static final int VERSION = 1;
+    private static final String INDEX = "pages.json";
+    private static final String EXTENSION = ".dex";
+
+    private final Path directory;
+    private final String link;
+    private final Map<String, Entry> previous;
+    private final Map<String, Entry> current = new ConcurrentHashMap<>();
+    private final Set<String> written = ConcurrentHashMap.newKeySet();
+    private final Set<String> readable = ConcurrentHashMap.newKeySet();
+
+    private PageCache(@Nullable final Path directory, @NotNull final String link, @NotNull final Map<String, Entry> previous) {
+        this.directory = directory;
+        this.link = link;
+        this.previous = previous;
+        previous.values().forEach(entry -> readable.add(entry.hash));
+    }
+
+    @NotNull
+    public static PageCache open(@NotNull final Javadoc javadoc) {
+        return open(Paths.get("docs", ".cache"), javadoc);
+    }
+
+    @NotNull
+    public static PageCache open(@NotNull final Path root, @NotNull final Javadoc javadoc) {
+        final Path directory = root.resolve(DataUtils.getName(javadoc));
+        final Map<String, Entry> pages = readIndex(directory.resolve(INDEX), javadoc.getActualLink());
+
+        if (pages == null) {
+            clear(directory);
+            return new PageCache(directory, javadoc.getActualLink(), Collections.emptyMap());
+        }
+
+        return new PageCache(directory, javadoc.getActualLink(), pages);
+    }
+
+    @NotNull
+    public static PageCache disabled() {
+        return new PageCache(null, "", Collections.emptyMap());
+    }
+
+    @Nullable
+    public Entry get(@NotNull final String url) {
+        final Entry entry = previous.get(url);
+
+        if (entry == null || directory == null || !Files.isRegularFile(getPath(entry.hash))) {
+            return null;
+        }
+
+        return entry;
+    }
+
+    @Nullable
+    public Set<DocumentedObject> reuse(@NotNull final String url, @NotNull final Entry cached) {
+        final Set<DocumentedObject> objects = read(cached.hash);
+
+        if (objects != null) {
+            record(url, cached);
+        }
+
+        return objects;
+    }
+
+    @NotNull
+    public Set<DocumentedObject> deserialize(@NotNull final String url, @NotNull final String link, @NotNull final Page page,
+                                            @NotNull final BiFunction<Document, String, Set<DocumentedObject>> deserializer,
+                                            @NotNull final Function<DocumentedObject, DocumentedObjectKey> keys) {
+        final String hash = page.getHash(link);
+        Set<DocumentedObject> objects = read(hash);
+
+        if (objects == null) {
+            objects = deserializer.apply(page.parse(), link);
+            write(hash, objects, keys);
+        }
+
+        record(url, new Entry(page.getEtag(), page.getLastModified(), hash));
+        return objects;
+    }
+
+    @Nullable
+    private Set<DocumentedObject> read(@NotNull final String hash) {
+        if (directory == null || !readable.contains(hash)) {
+            return null;
+        }
+
+        final Path file = getPath(hash);
+
+        if (!SnapshotFormat.isReadable(file)) {
+            return null;
+        }
+
+        try {
+            return new HashSet<>(SnapshotReader.read(file).values());
+        } catch (IOException | RuntimeException exception) {
+            LOGGER.error("Something went wrong when reading " + file, exception);
+            return null;
+        }
+    }
+
+    private void write(@NotNull final String hash, @NotNull final Set<DocumentedObject> objects,
+                       @NotNull final Function<DocumentedObject, DocumentedObjectKey> keys) {
+        // only the first of several identical pages writes
+        if (directory == null || !written.add(hash)) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(directory);
+            SnapshotWriter.write(getPath(hash), objects.stream()
+                    .collect(Collectors.toMap(keys, object -> object, (object1, object2) -> object1)));
+            readable.add(hash);
+        } catch (IOException exception) {
+            LOGGER.error("Something went wrong when caching " + hash, exception);
+        }
+    }
+
+    private void record(@NotNull final String url, @NotNull final Entry entry) {
+        current.put(url, entry);
+    }
+
+    // drops pages not seen this crawl, and objects no page hashes to
+    public void save() {
+        if (directory == null) {
+            return;
+        }
+
+        final Set<String> hashes = current.values().stream()
+                .map(entry -> entry.hash)
+                .collect(Collectors.toSet());
+        final Path index = directory.resolve(INDEX);
+        final Path temp = directory.resolve(INDEX + ".tmp");
+
+        try {
+            Files.createDirectories(directory);
+
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                GSON.toJson(new Index(VERSION, link, new HashMap<>(current)), writer);
+            }
+
+            Files.move(temp, index, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            try (Stream<Path> files = Files.list(directory)) {
+                for (final Path file : (Iterable<Path>) files::iterator) {
+                    final String name = file.getFileName().toString();
+
+                    if (name.endsWith(EXTENSION) && !hashes.contains(name.substring(0, name.length() - EXTENSION.length()))) {
+                        Files.deleteIfExists(file);
+                    }
+                }
+            }
+        } catch (IOException exception) {
+            LOGGER.error("Something went wrong when saving the page cache to " + directory, exception);
+        }
+    }
+
+    // null unless it's readable & from this version and link
+    @Nullable
+    private static Map<String, Entry> readIndex(@NotNull final Path index, @NotNull final String link) {
+        if (!Files.isRegularFile(index)) {
+            return null;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(index, StandardCharsets.UTF_8)) {
+            final Index data = GSON.fromJson(reader, Index.class);
+
+            if (data != null && data.version == VERSION && link.equals(data.link) && data.pages != null) {
+                return data.pages;
+            }
+        } catch (IOException | JsonParseException exception) {
+            LOGGER.error("Something went wrong when reading " + index + ", crawling without it.", exception);
+        }
+
+        return null;
+    }
+
+    private static void clear(@NotNull final Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            for (final Path file : (Iterable<Path>) files::iterator) {
+                if (file.getFileName().toString().endsWith(EXTENSION)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException exception) {
+            LOGGER.error("Something went wrong when clearing the page cache in " + directory, exception);
+        }
+    }
+
+    @NotNull
+    private Path getPath(@NotNull final String hash) {
+        return directory.resolve(hash + EXTENSION);
+    }
+
+    public static final class Entry {
+        private final String etag;
+        private final String lastModified;
+        private final String hash;
+
+        public Entry(@Nullable final String etag, @Nullable final String lastModified, @NotNull final String hash) {
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.hash = hash;
+        }
+
+        @Nullable
+        public String getEtag() {
+            return etag;
+        }
+
+        @Nullable
+        public String getLastModified() {
+            return lastModified;
+        }
+
+        @NotNull
+        public String getHash() {
+            return hash;
+        }
+    }
+
+    private static final class Index {
+        private final int version;
+        private final String link;
+        private final Map<String, Entry> pages;
+
+        private Index(final int version, @NotNull final String link, @NotNull final Map<String, Entry> pages) {
+            this.version = version;
+            this.link = link;
+            this.pages = pages;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package me.piggypiglet.docdex.documentation.index.population.implementations.crawl;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jsoup.nodes.Document;
+
+import java.util.concurrent.CompletableFuture;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+public interface PageSource extends AutoCloseable {
+    // completes with null on failure, and with Page#notModified if cached is still current
+    @NotNull
+    CompletableFuture<Page> fetchPage(@NotNull final String url, @Nullable final PageCache.Entry cached);
+
+    @NotNull
+    default CompletableFuture<Document> fetch(@NotNull final String url) {
+        return fetchPage(url, null).thenApply(page -> page == null ? null : page.parse());
+    }
+
+    @Nullable
+    default Document get(@NotNull final String url) {
+        return fetch(url).join();
+    }
+
+    @Override
+    default void close() {}
+}
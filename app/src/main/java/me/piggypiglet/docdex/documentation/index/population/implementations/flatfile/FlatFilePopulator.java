@@ -2,10 +2,13 @@ package me.piggypiglet.docdex.documentation.index.population.implementations.fla
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
 import me.piggypiglet.docdex.config.Javadoc;
 import me.piggypiglet.docdex.documentation.index.objects.DocumentedObjectKey;
 import me.piggypiglet.docdex.documentation.index.population.IndexPopulator;
 import me.piggypiglet.docdex.documentation.index.population.implementations.flatfile.adaptation.ObjectMapAdapter;
+import me.piggypiglet.docdex.documentation.index.snapshot.SnapshotFormat;
 import me.piggypiglet.docdex.documentation.objects.DocumentedObject;
 import me.piggypiglet.docdex.documentation.objects.adaptation.creation.FieldMetadataCreator;
 import me.piggypiglet.docdex.documentation.objects.adaptation.creation.MethodMetadataCreator;
@@ -13,13 +16,14 @@ import me.piggypiglet.docdex.documentation.objects.adaptation.creation.TypeMetad
 import me.piggypiglet.docdex.documentation.objects.detail.field.FieldMetadata;
 import me.piggypiglet.docdex.documentation.objects.detail.method.MethodMetadata;
 import me.piggypiglet.docdex.documentation.objects.type.TypeMetadata;
-import me.piggypiglet.docdex.file.utils.FileUtils;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collections;
@@ -37,12 +41,13 @@ public final class FlatFilePopulator implements IndexPopulator {
             .registerTypeAdapter(TypeMetadata.class, new TypeMetadataCreator())
             .registerTypeAdapter(MethodMetadata.class, new MethodMetadataCreator())
             .registerTypeAdapter(FieldMetadata.class, new FieldMetadataCreator())
-            .registerTypeAdapter(DESERIALIZED_TYPE, new ObjectMapAdapter())
+            .registerTypeAdapterFactory(new ObjectMapAdapter())
             .create();
 
     @Override
     public boolean shouldPopulate(final @NotNull Javadoc javadoc) {
-        return new File("docs", String.join("-", javadoc.getNames()) + ".json").exists();
+        return new File("docs", String.join("-", javadoc.getNames()) + ".json").exists() &&
+                !SnapshotFormat.isReadable(SnapshotFormat.getPath(javadoc));
     }
 
     @NotNull
@@ -53,11 +58,11 @@ public final class FlatFilePopulator implements IndexPopulator {
 
         LOGGER.info("Loading pre-built index from {}", fileName);
 
-        try {
-            final Map<DocumentedObjectKey, DocumentedObject> data = GSON.fromJson(FileUtils.readFile(file), DESERIALIZED_TYPE);
+        try (JsonReader reader = GSON.newJsonReader(Files.newBufferedReader(file, StandardCharsets.UTF_8))) {
+            final Map<DocumentedObjectKey, DocumentedObject> data = GSON.fromJson(reader, DESERIALIZED_TYPE);
             LOGGER.info("Finished loading {}", fileName);
             return data;
-        } catch (IOException exception) {
+        } catch (IOException | JsonParseException exception) {
             LOGGER.error("Something went wrong when loading " + fileName, exception);
         }
 
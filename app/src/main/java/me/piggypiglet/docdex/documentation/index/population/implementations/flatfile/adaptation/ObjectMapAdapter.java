@@ -1,65 +1,98 @@
 package me.piggypiglet.docdex.documentation.index.population.implementations.flatfile.adaptation;
 
-import com.google.gson.*;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import com.google.inject.util.Types;
 import me.piggypiglet.docdex.documentation.index.objects.DocumentedObjectKey;
 import me.piggypiglet.docdex.documentation.objects.DocumentedObject;
 import me.piggypiglet.docdex.documentation.utils.ParameterTypes;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
 import java.lang.reflect.Type;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.StringJoiner;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 // ------------------------------
 // Copyright (c) PiggyPiglet 2020
 // https://www.piggypiglet.me
 // ------------------------------
-public final class ObjectMapAdapter implements JsonSerializer<Map<DocumentedObjectKey, DocumentedObject>>, JsonDeserializer<Map<DocumentedObjectKey, DocumentedObject>> {
+public final class ObjectMapAdapter implements TypeAdapterFactory {
     public static final Type DESERIALIZED_TYPE = Types.mapOf(DocumentedObjectKey.class, DocumentedObject.class);
 
     private static final String DELIMITER = ";";
     private static final Pattern KEY_DELIMITER = Pattern.compile(";");
-    private static final Type SERIALIZED_TYPE = Types.mapOf(String.class, DocumentedObject.class);
 
-    @NotNull
+    @SuppressWarnings("unchecked")
+    @Nullable
     @Override
-    public JsonElement serialize(@NotNull final Map<DocumentedObjectKey, DocumentedObject> src, @NotNull final Type typeOfSrc,
-                                 @NotNull final JsonSerializationContext context) {
-        return context.serialize(src.entrySet().stream()
-                .collect(Collectors.toMap(entry -> {
-                    final DocumentedObjectKey key = entry.getKey();
-                    final Map<ParameterTypes, String> params = key.getParams();
-
-                    return new StringJoiner(DELIMITER)
-                            .add(key.getName())
-                            .add(key.getFqn())
-                            .add(params.get(ParameterTypes.FULL) + ' ')
-                            .add(params.get(ParameterTypes.TYPE) + ' ')
-                            .add(params.get(ParameterTypes.NAME) + ' ');
-                }, Map.Entry::getValue)));
+    public <T> TypeAdapter<T> create(@NotNull final Gson gson, @NotNull final TypeToken<T> type) {
+        if (!type.getType().equals(DESERIALIZED_TYPE)) {
+            return null;
+        }
+
+        return (TypeAdapter<T>) new Adapter(gson.getAdapter(DocumentedObject.class));
     }
 
-    @NotNull
-    @Override
-    @SuppressWarnings("unchecked")
-    public Map<DocumentedObjectKey, DocumentedObject> deserialize(@NotNull final JsonElement json, @NotNull final Type typeOfT,
-                                                                  @NotNull final JsonDeserializationContext context) {
-        return ((Map<String, DocumentedObject>) context.deserialize(json, SERIALIZED_TYPE)).entrySet().stream()
-                .collect(Collectors.toMap(entry -> {
-                    final String[] parts = KEY_DELIMITER.split(entry.getKey());
-
-                    return new DocumentedObjectKey(
-                            parts[0], parts[1],
-                            Map.of(
-                                    ParameterTypes.FULL, offTheEnd(parts[2]),
-                                    ParameterTypes.TYPE, offTheEnd(parts[3]),
-                                    ParameterTypes.NAME, offTheEnd(parts[4])
-                            )
-                    );
-                }, Map.Entry::getValue));
+    // entries are read and written one at a time, neither side ever holds the whole file as a string or tree
+    private static final class Adapter extends TypeAdapter<Map<DocumentedObjectKey, DocumentedObject>> {
+        private final TypeAdapter<DocumentedObject> objectAdapter;
+
+        private Adapter(@NotNull final TypeAdapter<DocumentedObject> objectAdapter) {
+            this.objectAdapter = objectAdapter;
+        }
+
+        @Override
+        public void write(@NotNull final JsonWriter out, @NotNull final Map<DocumentedObjectKey, DocumentedObject> value) throws IOException {
+            out.beginObject();
+
+            for (final Map.Entry<DocumentedObjectKey, DocumentedObject> entry : value.entrySet()) {
+                final DocumentedObjectKey key = entry.getKey();
+                final Map<ParameterTypes, String> params = key.getParams();
+
+                out.name(new StringJoiner(DELIMITER)
+                        .add(key.getName())
+                        .add(key.getFqn())
+                        .add(params.get(ParameterTypes.FULL) + ' ')
+                        .add(params.get(ParameterTypes.TYPE) + ' ')
+                        .add(params.get(ParameterTypes.NAME) + ' ')
+                        .toString());
+                objectAdapter.write(out, entry.getValue());
+            }
+
+            out.endObject();
+        }
+
+        @NotNull
+        @Override
+        public Map<DocumentedObjectKey, DocumentedObject> read(@NotNull final JsonReader in) throws IOException {
+            final Map<DocumentedObjectKey, DocumentedObject> map = new HashMap<>();
+
+            in.beginObject();
+
+            while (in.hasNext()) {
+                final String[] parts = KEY_DELIMITER.split(in.nextName());
+
+                map.put(new DocumentedObjectKey(
+                        parts[0], parts[1],
+                        Map.of(
+                                ParameterTypes.FULL, offTheEnd(parts[2]),
+                                ParameterTypes.TYPE, offTheEnd(parts[3]),
+                                ParameterTypes.NAME, offTheEnd(parts[4])
+                        )
+                ), objectAdapter.read(in));
+            }
+
+            in.endObject();
+            return map;
+        }
     }
 
     @NotNull
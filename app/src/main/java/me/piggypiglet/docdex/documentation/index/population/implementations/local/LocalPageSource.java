@@ -0,0 +1,92 @@
+package me.piggypiglet.docdex.documentation.index.population.implementations.local;
+
+import me.piggypiglet.docdex.documentation.index.population.implementations.crawl.Page;
+import me.piggypiglet.docdex.documentation.index.population.implementations.crawl.PageCache;
+import me.piggypiglet.docdex.documentation.index.population.implementations.crawl.PageSource;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+final class LocalPageSource implements PageSource {
+    private static final Logger LOGGER = LoggerFactory.getLogger("LocalPopulator");
+
+    private final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    private final FileSystem jar;
+    private final boolean closeJar;
+
+    LocalPageSource(@Nullable final FileSystem jar, final boolean closeJar) {
+        this.jar = jar;
+        this.closeJar = closeJar;
+    }
+
+    @NotNull
+    @Override
+    public CompletableFuture<Page> fetchPage(@NotNull final String url, @Nullable final PageCache.Entry cached) {
+        final Path path;
+
+        try {
+            path = getPath(URI.create(url));
+        } catch (Exception exception) {
+            LOGGER.error("{} isn't a valid path.", url);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        // jsoup mangles ../ against jar: urls, so pages in a jar are parsed against a file: url of their path inside it
+        final String base = jar == null ? url : "file:" + path;
+
+        // files can't be revalidated, the content hash decides
+        return CompletableFuture.supplyAsync(() -> read(path), pool)
+                .thenApply(bytes -> bytes == null ? null : Page.of(base, bytes, null, null));
+    }
+
+    @Nullable
+    private static byte[] read(@NotNull final Path path) {
+        try {
+            return Files.readAllBytes(path);
+        } catch (IOException exception) {
+            LOGGER.error("Something went wrong when reading " + path, exception);
+            return null;
+        }
+    }
+
+    // anchors and queries mean nothing on disk
+    @NotNull
+    private Path getPath(@NotNull final URI uri) throws URISyntaxException {
+        final String page = uri.getSchemeSpecificPart().split("\\?", 2)[0];
+
+        if (jar == null) {
+            return Paths.get(new URI(uri.getScheme(), page, null));
+        }
+
+        return jar.getPath(page.substring(page.indexOf('!') + 1));
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+
+        if (jar != null && closeJar) {
+            try {
+                jar.close();
+            } catch (IOException exception) {
+                LOGGER.error("Something went wrong when closing " + jar, exception);
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package me.piggypiglet.docdex.documentation.index.population.implementations.local;
+
+import com.google.inject.Inject;
+import me.piggypiglet.docdex.config.Config;
+import me.piggypiglet.docdex.config.Javadoc;
+import me.piggypiglet.docdex.documentation.index.population.implementations.crawl.CrawlPopulator;
+import me.piggypiglet.docdex.documentation.index.population.implementations.crawl.PageSource;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.FileSystemAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.util.Collections;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+// reads javadocs straight off disk, either an extracted directory (file:) or a javadoc jar (jar:file:...!/)
+public final class LocalPopulator extends CrawlPopulator {
+    private static final Logger LOGGER = LoggerFactory.getLogger("LocalPopulator");
+
+    @Inject
+    public LocalPopulator(@NotNull final Config config) {
+        super("LocalPopulator", config);
+    }
+
+    public static boolean isLocal(@NotNull final Javadoc javadoc) {
+        final String link = javadoc.getLink();
+        return link.startsWith("file:") || link.startsWith("jar:");
+    }
+
+    @Override
+    public boolean canCrawl(@NotNull final Javadoc javadoc) {
+        return isLocal(javadoc);
+    }
+
+    @Nullable
+    @Override
+    protected PageSource open(@NotNull final Javadoc javadoc) {
+        final URI link = URI.create(javadoc.getLink());
+
+        if (!link.getScheme().equals("jar")) {
+            return new LocalPageSource(null, false);
+        }
+
+        try {
+            return new LocalPageSource(FileSystems.newFileSystem(link, Collections.emptyMap()), true);
+        } catch (FileSystemAlreadyExistsException exception) {
+            // someone else has the jar open, so it's theirs to close
+            return new LocalPageSource(FileSystems.getFileSystem(link), false);
+        } catch (IOException exception) {
+            LOGGER.error("Something went wrong when opening " + link, exception);
+            return null;
+        }
+    }
+}
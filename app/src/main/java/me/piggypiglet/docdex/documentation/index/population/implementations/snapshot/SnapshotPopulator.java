@@ -0,0 +1,48 @@
+package me.piggypiglet.docdex.documentation.index.population.implementations.snapshot;
+
+import me.piggypiglet.docdex.config.Javadoc;
+import me.piggypiglet.docdex.documentation.index.objects.DocumentedObjectKey;
+import me.piggypiglet.docdex.documentation.index.population.IndexPopulator;
+import me.piggypiglet.docdex.documentation.index.snapshot.SnapshotFormat;
+import me.piggypiglet.docdex.documentation.index.snapshot.SnapshotReader;
+import me.piggypiglet.docdex.documentation.objects.DocumentedObject;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+public final class SnapshotPopulator implements IndexPopulator {
+    private static final Logger LOGGER = LoggerFactory.getLogger("SnapshotPopulator");
+
+    @Override
+    public boolean shouldPopulate(@NotNull final Javadoc javadoc) {
+        return SnapshotFormat.isReadable(SnapshotFormat.getPath(javadoc));
+    }
+
+    @NotNull
+    @Override
+    public Map<DocumentedObjectKey, DocumentedObject> provideObjects(@NotNull final Javadoc javadoc) {
+        final Path file = SnapshotFormat.getPath(javadoc);
+        final String fileName = file.getFileName().toString();
+
+        LOGGER.info("Loading pre-built index from {}", fileName);
+
+        try {
+            final Map<DocumentedObjectKey, DocumentedObject> data = SnapshotReader.read(file);
+            LOGGER.info("Finished loading {}", fileName);
+            return data;
+        } catch (IOException exception) {
+            LOGGER.error("Something went wrong when loading " + fileName, exception);
+        }
+
+        return Collections.emptyMap();
+    }
+}
@@ -0,0 +1,204 @@
+package me.piggypiglet.docdex.documentation.index.population.implementations.web.crawler;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import me.piggypiglet.docdex.config.Config;
+import me.piggypiglet.docdex.config.CrawlConfig;
+import me.piggypiglet.docdex.documentation.index.population.implementations.crawl.Page;
+import me.piggypiglet.docdex.documentation.index.population.implementations.crawl.PageCache;
+import me.piggypiglet.docdex.documentation.index.population.implementations.crawl.PageSource;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+@Singleton
+public final class PageCrawler implements PageSource {
+    private static final Logger LOGGER = LoggerFactory.getLogger("PageCrawler");
+    private static final int NOT_MODIFIED = 304;
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final int SERVER_ERROR = 500;
+
+    private final Map<String, HostLimiter> limiters = new ConcurrentHashMap<>();
+
+    private final HttpClient client;
+    private final int connectionsPerHost;
+    private final int retries;
+    private final long backoffMillis;
+    private final Duration timeout;
+
+    @Inject
+    public PageCrawler(@NotNull final Config config) {
+        final CrawlConfig crawlConfig = config.getIndex().getCrawl();
+
+        connectionsPerHost = crawlConfig.getConnectionsPerHost();
+        retries = crawlConfig.getRetries();
+        backoffMillis = crawlConfig.getBackoffMillis();
+        timeout = Duration.ofSeconds(crawlConfig.getTimeoutSeconds());
+
+        // one client for every crawl, so connections are kept alive (or multiplexed over http/2) between pages
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(timeout)
+                .build();
+    }
+
+    @NotNull
+    @Override
+    public CompletableFuture<Page> fetchPage(@NotNull final String url, @Nullable final PageCache.Entry cached) {
+        final URI uri;
+
+        try {
+            uri = URI.create(url);
+        } catch (IllegalArgumentException exception) {
+            LOGGER.error("{} isn't a valid url.", url);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        final HostLimiter limiter = limiters.computeIfAbsent(String.valueOf(uri.getHost()), host -> new HostLimiter(connectionsPerHost));
+
+        return limiter.acquire()
+                .thenCompose(ignored -> send(uri, cached, 0))
+                .whenComplete((page, throwable) -> limiter.release())
+                .exceptionally(throwable -> {
+                    Throwable cause = throwable;
+
+                    while (cause instanceof CompletionException && cause.getCause() != null) {
+                        cause = cause.getCause();
+                    }
+
+                    if (cause instanceof ConnectException) {
+                        LOGGER.error("Something went wrong when connecting to {}, is the link valid, and are the javadocs actually there?", url);
+                    } else {
+                        LOGGER.error("Something went wrong when connecting to " + url, cause);
+                    }
+
+                    return null;
+                });
+    }
+
+    @NotNull
+    private CompletableFuture<Page> send(@NotNull final URI uri, @Nullable final PageCache.Entry cached, final int attempt) {
+        final HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                .timeout(timeout)
+                .header("Accept-Encoding", "gzip")
+                .GET();
+
+        if (cached != null && cached.getEtag() != null) {
+            request.header("If-None-Match", cached.getEtag());
+        }
+
+        if (cached != null && cached.getLastModified() != null) {
+            request.header("If-Modified-Since", cached.getLastModified());
+        }
+
+        return client.sendAsync(request.build(), HttpResponse.BodyHandlers.ofByteArray())
+                .handle((response, throwable) -> {
+                    if (throwable == null && response.statusCode() / 100 == 2) {
+                        return CompletableFuture.completedFuture(toPage(response));
+                    }
+
+                    if (throwable == null && response.statusCode() == NOT_MODIFIED && cached != null) {
+                        return CompletableFuture.completedFuture(Page.notModified(response.uri().toString()));
+                    }
+
+                    if (throwable == null && !isRetryable(response.statusCode())) {
+                        LOGGER.error("{} responded with {}.", uri, response.statusCode());
+                        return CompletableFuture.<Page>completedFuture(null);
+                    }
+
+                    if (attempt >= retries) {
+                        return CompletableFuture.<Page>failedFuture(throwable != null ? throwable :
+                                new IOException(uri + " responded with " + response.statusCode()));
+                    }
+
+                    final long delay = backoffMillis << attempt;
+                    return CompletableFuture.runAsync(() -> {}, CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS))
+                            .thenCompose(ignored -> send(uri, cached, attempt + 1));
+                })
+                .thenCompose(future -> future);
+    }
+
+    private static boolean isRetryable(final int status) {
+        return status == TOO_MANY_REQUESTS || status >= SERVER_ERROR;
+    }
+
+    // the uri the response came from, not the one requested, so redirected pages still resolve relative links
+    @NotNull
+    private static Page toPage(@NotNull final HttpResponse<byte[]> response) {
+        final boolean gzip = response.headers().firstValue("Content-Encoding")
+                .map("gzip"::equalsIgnoreCase)
+                .orElse(false);
+
+        final InputStream bytes = new ByteArrayInputStream(response.body());
+
+        try (InputStream body = gzip ? new GZIPInputStream(bytes) : bytes) {
+            return Page.of(response.uri().toString(), body.readAllBytes(),
+                    response.headers().firstValue("ETag").orElse(null),
+                    response.headers().firstValue("Last-Modified").orElse(null));
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    // async stand in for a semaphore, a page waiting on its host holds a future rather than a thread
+    private static final class HostLimiter {
+        private final Queue<CompletableFuture<Void>> waiting = new ArrayDeque<>();
+        private int available;
+
+        private HostLimiter(final int permits) {
+            available = permits;
+        }
+
+        @NotNull
+        private synchronized CompletableFuture<Void> acquire() {
+            if (available > 0) {
+                --available;
+                return CompletableFuture.completedFuture(null);
+            }
+
+            final CompletableFuture<Void> future = new CompletableFuture<>();
+            waiting.add(future);
+            return future;
+        }
+
+        private void release() {
+            final CompletableFuture<Void> next;
+
+            synchronized (this) {
+                next = waiting.poll();
+
+                if (next == null) {
+                    ++available;
+                    return;
+                }
+            }
+
+            next.complete(null);
+        }
+    }
+}
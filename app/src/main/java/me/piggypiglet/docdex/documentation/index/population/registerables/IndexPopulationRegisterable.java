@@ -22,6 +22,7 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 
 // ------------------------------
 // Copyright (c) PiggyPiglet 2020
@@ -66,7 +67,9 @@ public final class IndexPopulationRegisterable extends Registerable {
         javadocs.forEach(javadoc ->
                 futures.add(CompletableFuture.runAsync(() ->
                         populators.stream().filter(populator -> populator.shouldPopulate(javadoc)).findAny().ifPresent(populator -> {
-                            final Map<DocumentedObjectKey, DocumentedObject> objects = populator.provideObjects(javadoc);
+                            final Map<DocumentedObjectKey, DocumentedObject> objects = populator.provideObjects(javadoc).entrySet().stream()
+                                    .filter(entry -> !entry.getKey().isInherited(entry.getValue()))
+                                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
 
                             if (objects.isEmpty()) {
                                 LOGGER.error("No objects were indexed for {}", DataUtils.getName(javadoc) + '.');
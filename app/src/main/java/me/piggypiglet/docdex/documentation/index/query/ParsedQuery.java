@@ -0,0 +1,100 @@
+package me.piggypiglet.docdex.documentation.index.query;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+public final class ParsedQuery {
+    private final String query;
+    private final QueryKind kind;
+    private final boolean fqn;
+    private final String name;
+    private final String owner;
+    private final String member;
+    private final String parameters;
+    private final boolean fullParameters;
+
+    ParsedQuery(@NotNull final String query, @NotNull final QueryKind kind, final boolean fqn,
+                @NotNull final String name, @NotNull final String owner, @NotNull final String member,
+                @NotNull final String parameters, final boolean fullParameters) {
+        this.query = query;
+        this.kind = kind;
+        this.fqn = fqn;
+        this.name = name;
+        this.owner = owner;
+        this.member = member;
+        this.parameters = parameters;
+        this.fullParameters = fullParameters;
+    }
+
+    // the whole normalised query, what the index keys exact matches & cached results by
+    @NotNull
+    public String getQuery() {
+        return query;
+    }
+
+    @NotNull
+    public QueryKind getKind() {
+        return kind;
+    }
+
+    public boolean isFqn() {
+        return fqn;
+    }
+
+    // everything before the parameter list, e.g. org.bukkit.entity.entity#teleport
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    @NotNull
+    public String getOwner() {
+        return owner;
+    }
+
+    @NotNull
+    public String getMember() {
+        return member;
+    }
+
+    // without the surrounding parentheses
+    @NotNull
+    public String getParameters() {
+        return parameters;
+    }
+
+    // blank, or at least one parameter has both a type and a name
+    public boolean hasFullParameters() {
+        return fullParameters;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final ParsedQuery that = (ParsedQuery) o;
+        return query.equals(that.query);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(query);
+    }
+
+    @Override
+    public String toString() {
+        return "ParsedQuery{" +
+                "query='" + query + '\'' +
+                ", kind=" + kind +
+                ", fqn=" + fqn +
+                ", owner='" + owner + '\'' +
+                ", member='" + member + '\'' +
+                ", parameters='" + parameters + '\'' +
+                '}';
+    }
+}
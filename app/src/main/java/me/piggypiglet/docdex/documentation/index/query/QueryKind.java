@@ -0,0 +1,11 @@
+package me.piggypiglet.docdex.documentation.index.query;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+public enum QueryKind {
+    TYPE,
+    FIELD,
+    METHOD
+}
@@ -0,0 +1,85 @@
+package me.piggypiglet.docdex.documentation.index.query;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.inject.Singleton;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ExecutionException;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+@Singleton
+public final class QueryParser {
+    private static final int CACHE_SIZE = 1_024;
+
+    private final Cache<String, ParsedQuery> cache = CacheBuilder.newBuilder()
+            .maximumSize(CACHE_SIZE)
+            .build();
+
+    // takes the query as it arrives in the url, ~ and - standing in for # and %
+    @NotNull
+    public ParsedQuery parse(@NotNull final String query) {
+        try {
+            return cache.get(query, () -> parseUncached(query));
+        } catch (ExecutionException exception) {
+            throw new IllegalStateException(exception.getCause());
+        }
+    }
+
+    @NotNull
+    private static ParsedQuery parseUncached(@NotNull final String rawQuery) {
+        String query = rawQuery.replace('~', '#')
+                .replace('-', '%')
+                .replace("%20", " ")
+                .toLowerCase();
+        final boolean fqn = query.indexOf('.') != -1;
+
+        if (query.indexOf('#') != -1) {
+            query = query.replace(", ", ",");
+
+            final int openIndex = query.indexOf('(');
+            final String name = openIndex == -1 ? query : query.substring(0, openIndex);
+            final String parameters;
+
+            if (openIndex == -1) {
+                parameters = "";
+            } else if (query.endsWith(")")) {
+                parameters = query.substring(openIndex + 1, query.lastIndexOf(')'));
+            } else {
+                parameters = query.substring(openIndex + 1);
+            }
+
+            final int separator = name.indexOf('#');
+            return new ParsedQuery(query, QueryKind.METHOD, fqn, name, separator == -1 ? "" : name.substring(0, separator), name.substring(separator + 1),
+                    parameters, hasFullParameters(parameters));
+        }
+
+        final int separator = query.indexOf('%');
+
+        if (separator != -1) {
+            return new ParsedQuery(query, QueryKind.FIELD, fqn, query, query.substring(0, separator), query.substring(separator + 1),
+                    "", true);
+        }
+
+        final int packageEnd = query.lastIndexOf('.');
+        return new ParsedQuery(query, QueryKind.TYPE, fqn, query, packageEnd == -1 ? "" : query.substring(0, packageEnd),
+                query.substring(packageEnd + 1), "", true);
+    }
+
+    private static boolean hasFullParameters(@NotNull final String parameters) {
+        if (parameters.isBlank()) {
+            return true;
+        }
+
+        for (final String parameter : parameters.split(",")) {
+            if (parameter.trim().indexOf(' ') != -1) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
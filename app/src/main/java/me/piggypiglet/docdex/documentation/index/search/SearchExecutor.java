@@ -0,0 +1,87 @@
+package me.piggypiglet.docdex.documentation.index.search;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import me.piggypiglet.docdex.config.Config;
+import me.piggypiglet.docdex.config.SearchConfig;
+import me.piggypiglet.docdex.documentation.index.algorithm.Algorithm;
+import me.piggypiglet.docdex.documentation.index.algorithm.AlgorithmOption;
+import me.piggypiglet.docdex.documentation.index.ngram.NGramIndex;
+import me.piggypiglet.docdex.documentation.index.utils.StreamUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+// query scoring gets its own pool, so it neither competes with population on the common pool nor oversubscribes it
+@Singleton
+public final class SearchExecutor {
+    private static final int SAMPLE_SIZE = 512;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    @Inject
+    public SearchExecutor(@NotNull final Config config) {
+        final SearchConfig searchConfig = config.getIndex().getSearch();
+        final AtomicInteger threads = new AtomicInteger();
+
+        pool = new ForkJoinPool(searchConfig.getParallelism(), forkJoinPool -> {
+            final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("search-" + threads.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+        threshold = searchConfig.getParallelThreshold();
+    }
+
+    @NotNull
+    public List<String> topByAlgorithm(@NotNull final Collection<String> strings, @NotNull final String query,
+                                       @NotNull final Algorithm algorithm, @NotNull final AlgorithmOption option,
+                                       final int limit) {
+        return top(strings, (string, bound) -> algorithm.calculate(query, string, option, bound), limit);
+    }
+
+    // exact, strings whose best possible score can't beat the sample's k-th best are skipped
+    @NotNull
+    public List<String> topByAlgorithm(@NotNull final Collection<String> strings, @Nullable final NGramIndex grams,
+                                       @NotNull final String query, @NotNull final Algorithm algorithm,
+                                       @NotNull final AlgorithmOption option, final int limit) {
+        if (grams == null || grams.size() <= SAMPLE_SIZE) {
+            return topByAlgorithm(strings, query, algorithm, option, limit);
+        }
+
+        final List<String> sample = topByAlgorithm(grams.candidates(query, SAMPLE_SIZE).stream()
+                .filter(strings::contains)
+                .collect(Collectors.toList()), query, algorithm, option, limit);
+        final double cut = limit > 0 && sample.size() == limit ?
+                algorithm.calculate(query, sample.get(limit - 1), option) : Double.POSITIVE_INFINITY;
+        final ToIntFunction<String> edits = grams.minimumEdits(query);
+
+        return top(strings, (string, bound) -> {
+            final double best = algorithm.best(query, string, edits.applyAsInt(string), option);
+
+            if (best > Math.min(bound, cut)) {
+                return best;
+            }
+
+            return algorithm.calculate(query, string, option, bound);
+        }, limit);
+    }
+
+    @NotNull
+    public <T> List<T> top(@NotNull final Collection<T> elements, @NotNull final StreamUtils.BoundedScorer<? super T> scorer,
+                           final int limit) {
+        return StreamUtils.top(elements, scorer, limit, pool, threshold);
+    }
+}
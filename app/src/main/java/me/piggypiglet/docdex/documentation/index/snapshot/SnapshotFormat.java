@@ -0,0 +1,83 @@
+package me.piggypiglet.docdex.documentation.index.snapshot;
+
+import me.piggypiglet.docdex.config.Javadoc;
+import me.piggypiglet.docdex.documentation.utils.DataUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+// header, string offsets, utf-8 string data, object records, key records, int pool.
+// records are fixed-width ints, strings are referenced by id, and variable length lists live in the pool as [count, values...]
+public final class SnapshotFormat {
+    static final int MAGIC = 0x44444558; // DDEX
+    static final int VERSION = 1;
+    static final int HEADER_INTS = 7;
+
+    static final int TYPE = 0;
+    static final int DEPRECATED = 1;
+    static final int LINK = 2;
+    static final int PACKAGE = 3;
+    static final int NAME = 4;
+    static final int DESCRIPTION = 5;
+    static final int STRIPPED_DESCRIPTION = 6;
+    static final int DEPRECATION_MESSAGE = 7;
+    static final int ANNOTATIONS = 8;
+    static final int MODIFIERS = 9;
+    static final int METADATA_KIND = 10;
+    static final int METADATA = 11;
+    static final int METADATA_SLOTS = 9;
+    static final int OBJECT_INTS = METADATA + METADATA_SLOTS;
+
+    static final int TYPE_METADATA = 0;
+    static final int METHOD_METADATA = 1;
+    static final int FIELD_METADATA = 2;
+
+    static final int KEY_NAME = 0;
+    static final int KEY_FQN = 1;
+    static final int KEY_FULL_PARAMS = 2;
+    static final int KEY_TYPE_PARAMS = 3;
+    static final int KEY_NAME_PARAMS = 4;
+    static final int KEY_OBJECT = 5;
+    static final int KEY_INTS = 6;
+
+    private SnapshotFormat() {
+        throw new AssertionError("This class cannot be instantiated.");
+    }
+
+    @NotNull
+    public static Path getPath(@NotNull final Javadoc javadoc) {
+        return Paths.get("docs", DataUtils.getName(javadoc) + ".dex");
+    }
+
+    // only the header is read, so snapshots written by a different version fall through to the other populators
+    public static boolean isReadable(@NotNull final Path file) {
+        if (!Files.isRegularFile(file)) {
+            return false;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final ByteBuffer header = ByteBuffer.allocate(Integer.BYTES * 2);
+
+            while (header.hasRemaining()) {
+                if (channel.read(header) == -1) {
+                    return false;
+                }
+            }
+
+            header.flip();
+            return header.getInt() == MAGIC && header.getInt() == VERSION;
+        } catch (IOException exception) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package me.piggypiglet.docdex.documentation.index.snapshot;
+
+import me.piggypiglet.docdex.documentation.index.objects.DocumentedObjectKey;
+import me.piggypiglet.docdex.documentation.objects.DocumentedObject;
+import me.piggypiglet.docdex.documentation.objects.DocumentedTypes;
+import me.piggypiglet.docdex.documentation.objects.detail.field.DocumentedFieldBuilder;
+import me.piggypiglet.docdex.documentation.objects.detail.method.DocumentedMethodBuilder;
+import me.piggypiglet.docdex.documentation.objects.type.DocumentedTypeBuilder;
+import me.piggypiglet.docdex.documentation.objects.type.TypeMetadata;
+import me.piggypiglet.docdex.documentation.utils.ParameterTypes;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+import static me.piggypiglet.docdex.documentation.index.snapshot.SnapshotFormat.*;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+public final class SnapshotReader {
+    private static final DocumentedTypes[] TYPES = DocumentedTypes.values();
+
+    private final ByteBuffer buffer;
+    private final int stringCount;
+    private final int objectCount;
+    private final int keyCount;
+    private final int stringOffsets;
+    private final int stringData;
+    private final int objects;
+    private final int keys;
+    private final int pool;
+
+    // a string is decoded once, the first time a record points at it, and every later reference shares the instance.
+    // objects are all decoded by read, the index & storage go through every one of them on population anyway
+    private final String[] strings;
+    private final DocumentedObject[] decodedObjects;
+
+    private SnapshotReader(@NotNull final ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != VERSION) {
+            throw new IOException("Not a version " + VERSION + " snapshot.");
+        }
+
+        stringCount = buffer.getInt(Integer.BYTES * 2);
+        final int stringLength = buffer.getInt(Integer.BYTES * 3);
+        objectCount = buffer.getInt(Integer.BYTES * 4);
+        keyCount = buffer.getInt(Integer.BYTES * 5);
+        final int poolLength = buffer.getInt(Integer.BYTES * 6);
+
+        stringOffsets = Integer.BYTES * HEADER_INTS;
+        stringData = stringOffsets + Integer.BYTES * (stringCount + 1);
+        objects = stringData + stringLength;
+        keys = objects + Integer.BYTES * objectCount * OBJECT_INTS;
+        pool = keys + Integer.BYTES * keyCount * KEY_INTS;
+
+        if ((long) pool + (long) Integer.BYTES * poolLength != buffer.capacity()) {
+            throw new IOException("Snapshot is truncated or corrupt.");
+        }
+
+        strings = new String[stringCount];
+        decodedObjects = new DocumentedObject[objectCount];
+    }
+
+    @NotNull
+    public static Map<DocumentedObjectKey, DocumentedObject> read(@NotNull final Path file) throws IOException {
+        final MappedByteBuffer buffer;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        return new SnapshotReader(buffer).readKeys();
+    }
+
+    @NotNull
+    private Map<DocumentedObjectKey, DocumentedObject> readKeys() {
+        final Map<DocumentedObjectKey, DocumentedObject> map = new HashMap<>((int) Math.ceil(keyCount / 0.75));
+
+        for (int i = 0; i < keyCount; ++i) {
+            final int offset = keys + Integer.BYTES * i * KEY_INTS;
+
+            map.put(new DocumentedObjectKey(
+                    string(offset, KEY_NAME), string(offset, KEY_FQN),
+                    Map.of(
+                            ParameterTypes.FULL, string(offset, KEY_FULL_PARAMS),
+                            ParameterTypes.TYPE, string(offset, KEY_TYPE_PARAMS),
+                            ParameterTypes.NAME, string(offset, KEY_NAME_PARAMS)
+                    )
+            ), object(buffer.getInt(offset + Integer.BYTES * KEY_OBJECT)));
+        }
+
+        return map;
+    }
+
+    @NotNull
+    private DocumentedObject object(final int id) {
+        if (decodedObjects[id] != null) {
+            return decodedObjects[id];
+        }
+
+        final int offset = objects + Integer.BYTES * id * OBJECT_INTS;
+        final int slot = offset + Integer.BYTES * METADATA;
+        final DocumentedObject object;
+
+        switch (buffer.getInt(offset + Integer.BYTES * METADATA_KIND)) {
+            case TYPE_METADATA:
+                object = common(new DocumentedTypeBuilder(), offset)
+                        .extensions(set(slot, 0, new HashSet<>()))
+                        .implementations(set(slot, 1, new HashSet<>()))
+                        .allImplementations(set(slot, 2, new HashSet<>()))
+                        .superInterfaces(set(slot, 3, new HashSet<>()))
+                        .subInterfaces(set(slot, 4, new HashSet<>()))
+                        .subClasses(set(slot, 5, new HashSet<>()))
+                        .implementingClasses(set(slot, 6, new HashSet<>()))
+                        .build();
+
+                final TypeMetadata metadata = (TypeMetadata) object.getMetadata();
+                set(slot, 7, metadata.getMethods());
+                set(slot, 8, metadata.getFields());
+                break;
+
+            case METHOD_METADATA:
+                final DocumentedMethodBuilder method = common(new DocumentedMethodBuilder(), offset)
+                        .owner(string(slot, 0))
+                        .parameters(set(slot, 1, new LinkedHashSet<>()))
+                        .returns(string(slot, 3))
+                        .returnsDescription(string(slot, 4));
+
+                pairs(slot, 2, method::parameterDescriptions);
+                pairs(slot, 5, method::throwing);
+                object = method.build();
+                break;
+
+            case FIELD_METADATA:
+                object = common(new DocumentedFieldBuilder(), offset)
+                        .owner(string(slot, 0))
+                        .returns(string(slot, 1))
+                        .build();
+                break;
+
+            default:
+                throw new IllegalStateException("Unknown metadata kind for object " + id);
+        }
+
+        decodedObjects[id] = object;
+        return object;
+    }
+
+    @NotNull
+    private <T extends DocumentedObject.Builder<T>> T common(@NotNull final T builder, final int offset) {
+        return builder
+                .type(TYPES[buffer.getInt(offset + Integer.BYTES * TYPE)])
+                .deprecated(buffer.getInt(offset + Integer.BYTES * DEPRECATED) == 1)
+                .link(string(offset, LINK))
+                .packaj(string(offset, PACKAGE))
+                .name(string(offset, NAME))
+                .description(string(offset, DESCRIPTION))
+                .strippedDescription(string(offset, STRIPPED_DESCRIPTION))
+                .deprecationMessage(string(offset, DEPRECATION_MESSAGE))
+                .annotations(set(offset, ANNOTATIONS, new HashSet<>()))
+                .modifiers(set(offset, MODIFIERS, new LinkedHashSet<>()));
+    }
+
+    @NotNull
+    private <S extends Set<String>> S set(final int offset, final int field, @NotNull final S set) {
+        int position = pool + Integer.BYTES * buffer.getInt(offset + Integer.BYTES * field);
+        final int size = buffer.getInt(position);
+
+        for (int i = 0; i < size; ++i) {
+            position += Integer.BYTES;
+            set.add(string(buffer.getInt(position)));
+        }
+
+        return set;
+    }
+
+    private void pairs(final int offset, final int field, @NotNull final PairConsumer consumer) {
+        int position = pool + Integer.BYTES * buffer.getInt(offset + Integer.BYTES * field);
+        final int size = buffer.getInt(position);
+
+        for (int i = 0; i < size; ++i) {
+            final String key = string(buffer.getInt(position += Integer.BYTES));
+            final String value = string(buffer.getInt(position += Integer.BYTES));
+            consumer.accept(key, value);
+        }
+    }
+
+    @NotNull
+    private String string(final int offset, final int field) {
+        return string(buffer.getInt(offset + Integer.BYTES * field));
+    }
+
+    @NotNull
+    private String string(final int id) {
+        if (id < 0 || id >= stringCount) {
+            throw new IllegalStateException("String id " + id + " is out of range.");
+        }
+
+        if (strings[id] == null) {
+            final int start = buffer.getInt(stringOffsets + Integer.BYTES * id);
+            final int end = buffer.getInt(stringOffsets + Integer.BYTES * (id + 1));
+            final byte[] bytes = new byte[end - start];
+
+            buffer.duplicate().position(stringData + start).get(bytes);
+            strings[id] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        return strings[id];
+    }
+
+    @FunctionalInterface
+    private interface PairConsumer {
+        void accept(@NotNull final String key, @NotNull final String value);
+    }
+}
@@ -0,0 +1,214 @@
+package me.piggypiglet.docdex.documentation.index.snapshot;
+
+import me.piggypiglet.docdex.documentation.index.objects.DocumentedObjectKey;
+import me.piggypiglet.docdex.documentation.objects.DocumentedObject;
+import me.piggypiglet.docdex.documentation.objects.detail.field.FieldMetadata;
+import me.piggypiglet.docdex.documentation.objects.detail.method.MethodMetadata;
+import me.piggypiglet.docdex.documentation.objects.type.TypeMetadata;
+import me.piggypiglet.docdex.documentation.utils.ParameterTypes;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+
+import static me.piggypiglet.docdex.documentation.index.snapshot.SnapshotFormat.*;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+public final class SnapshotWriter {
+    private final Map<String, Integer> strings = new LinkedHashMap<>();
+    private final Map<DocumentedObject, Integer> objectIds = new IdentityHashMap<>();
+    private int[] objects = new int[0];
+    private int[] keys = new int[0];
+    private int[] pool = new int[1024];
+    private int poolSize = 0;
+
+    private SnapshotWriter() {}
+
+    public static void write(@NotNull final Path file, @NotNull final Map<DocumentedObjectKey, DocumentedObject> objects) throws IOException {
+        new SnapshotWriter().writeTo(file, objects);
+    }
+
+    private void writeTo(@NotNull final Path file, @NotNull final Map<DocumentedObjectKey, DocumentedObject> map) throws IOException {
+        keys = new int[map.size() * KEY_INTS];
+        int keyIndex = 0;
+
+        for (final Map.Entry<DocumentedObjectKey, DocumentedObject> entry : map.entrySet()) {
+            final DocumentedObjectKey key = entry.getKey();
+            final Map<ParameterTypes, String> params = key.getParams();
+            final int offset = keyIndex++ * KEY_INTS;
+
+            keys[offset + KEY_NAME] = string(key.getName());
+            keys[offset + KEY_FQN] = string(key.getFqn());
+            keys[offset + KEY_FULL_PARAMS] = string(params.getOrDefault(ParameterTypes.FULL, ""));
+            keys[offset + KEY_TYPE_PARAMS] = string(params.getOrDefault(ParameterTypes.TYPE, ""));
+            keys[offset + KEY_NAME_PARAMS] = string(params.getOrDefault(ParameterTypes.NAME, ""));
+            keys[offset + KEY_OBJECT] = object(entry.getValue());
+        }
+
+        final int[] stringOffsets = new int[strings.size() + 1];
+        final List<byte[]> stringData = new ArrayList<>(strings.size());
+        long stringLength = 0;
+        int stringIndex = 0;
+
+        for (final String string : strings.keySet()) {
+            final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            stringOffsets[stringIndex++] = (int) stringLength;
+            stringData.add(bytes);
+            stringLength += bytes.length;
+        }
+
+        stringOffsets[stringIndex] = (int) stringLength;
+
+        final long size = (long) Integer.BYTES * (HEADER_INTS + stringOffsets.length + objectIds.size() * OBJECT_INTS + keys.length + poolSize)
+                + stringLength;
+
+        // the reader maps the whole file into one buffer
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Snapshot would be " + size + " bytes, which is too large to map.");
+        }
+
+        final Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeInt(strings.size());
+            output.writeInt((int) stringLength);
+            output.writeInt(objectIds.size());
+            output.writeInt(map.size());
+            output.writeInt(poolSize);
+
+            writeInts(output, stringOffsets, stringOffsets.length);
+
+            for (final byte[] bytes : stringData) {
+                output.write(bytes);
+            }
+
+            writeInts(output, objects, objectIds.size() * OBJECT_INTS);
+            writeInts(output, keys, keys.length);
+            writeInts(output, pool, poolSize);
+        }
+
+        // moved into place only once complete, so a crash never leaves a truncated snapshot that looks readable
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private int object(@NotNull final DocumentedObject object) {
+        final Integer existing = objectIds.get(object);
+
+        if (existing != null) {
+            return existing;
+        }
+
+        final int id = objectIds.size();
+        objectIds.put(object, id);
+
+        if (objects.length < (id + 1) * OBJECT_INTS) {
+            objects = Arrays.copyOf(objects, Math.max(OBJECT_INTS * 64, objects.length * 2));
+        }
+
+        final int offset = id * OBJECT_INTS;
+        objects[offset + TYPE] = object.getType().ordinal();
+        objects[offset + DEPRECATED] = object.isDeprecated() ? 1 : 0;
+        objects[offset + LINK] = string(object.getLink());
+        objects[offset + PACKAGE] = string(object.getPackage());
+        objects[offset + NAME] = string(object.getName());
+        objects[offset + DESCRIPTION] = string(object.getDescription());
+        objects[offset + STRIPPED_DESCRIPTION] = string(object.getStrippedDescription());
+        objects[offset + DEPRECATION_MESSAGE] = string(object.getDeprecationMessage());
+        objects[offset + ANNOTATIONS] = list(object.getAnnotations());
+        objects[offset + MODIFIERS] = list(object.getModifiers());
+
+        final Object metadata = object.getMetadata();
+        final int slot = offset + METADATA;
+
+        if (metadata instanceof TypeMetadata) {
+            final TypeMetadata type = (TypeMetadata) metadata;
+
+            objects[offset + METADATA_KIND] = TYPE_METADATA;
+            objects[slot] = list(type.getExtensions());
+            objects[slot + 1] = list(type.getImplementations());
+            objects[slot + 2] = list(type.getAllImplementations());
+            objects[slot + 3] = list(type.getSuperInterfaces());
+            objects[slot + 4] = list(type.getSubInterfaces());
+            objects[slot + 5] = list(type.getSubClasses());
+            objects[slot + 6] = list(type.getImplementingClasses());
+            objects[slot + 7] = list(type.getMethods());
+            objects[slot + 8] = list(type.getFields());
+        } else if (metadata instanceof MethodMetadata) {
+            final MethodMetadata method = (MethodMetadata) metadata;
+
+            objects[offset + METADATA_KIND] = METHOD_METADATA;
+            objects[slot] = string(method.getOwner());
+            objects[slot + 1] = list(method.getParameters());
+            objects[slot + 2] = pairs(method.getParameterDescriptions().entrySet());
+            objects[slot + 3] = string(method.getReturns());
+            objects[slot + 4] = string(method.getReturnsDescription());
+            objects[slot + 5] = pairs(method.getThrows());
+        } else if (metadata instanceof FieldMetadata) {
+            final FieldMetadata field = (FieldMetadata) metadata;
+
+            objects[offset + METADATA_KIND] = FIELD_METADATA;
+            objects[slot] = string(field.getOwner());
+            objects[slot + 1] = string(field.getReturns());
+        } else {
+            throw new IllegalArgumentException("Unknown metadata type: " + metadata.getClass().getName());
+        }
+
+        return id;
+    }
+
+    private int string(@NotNull final String string) {
+        return strings.computeIfAbsent(string, key -> strings.size());
+    }
+
+    private int list(@NotNull final Collection<String> values) {
+        final int offset = reserve(values.size() + 1);
+        int index = offset;
+        pool[index++] = values.size();
+
+        for (final String value : values) {
+            pool[index++] = string(value);
+        }
+
+        return offset;
+    }
+
+    private int pairs(@NotNull final Collection<Map.Entry<String, String>> values) {
+        final int offset = reserve(values.size() * 2 + 1);
+        int index = offset;
+        pool[index++] = values.size();
+
+        for (final Map.Entry<String, String> value : values) {
+            pool[index++] = string(value.getKey());
+            pool[index++] = string(value.getValue());
+        }
+
+        return offset;
+    }
+
+    private int reserve(final int length) {
+        if (poolSize + length > pool.length) {
+            pool = Arrays.copyOf(pool, Math.max(poolSize + length, pool.length * 2));
+        }
+
+        final int offset = poolSize;
+        poolSize += length;
+        return offset;
+    }
+
+    private static void writeInts(@NotNull final DataOutputStream output, final int @NotNull [] values, final int length) throws IOException {
+        for (int i = 0; i < length; ++i) {
+            output.writeInt(values[i]);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package me.piggypiglet.docdex.documentation.index.storage;
 
 import me.piggypiglet.docdex.config.Javadoc;
 import me.piggypiglet.docdex.documentation.index.objects.DocumentedObjectKey;
+import me.piggypiglet.docdex.documentation.index.update.IndexDelta;
 import me.piggypiglet.docdex.documentation.objects.DocumentedObject;
 import org.jetbrains.annotations.NotNull;
 
@@ -13,4 +14,10 @@ import java.util.Map;
 // ------------------------------
 public interface IndexStorage {
     void save(@NotNull final Javadoc javadoc, @NotNull final Map<DocumentedObjectKey, DocumentedObject> objects);
+
+    // objects is the whole, new index. storages that can't apply just the delta replace what they hold with it.
+    default void update(@NotNull final Javadoc javadoc, @NotNull final Map<DocumentedObjectKey, DocumentedObject> objects,
+                        @NotNull final IndexDelta delta) {
+        save(javadoc, objects);
+    }
 }
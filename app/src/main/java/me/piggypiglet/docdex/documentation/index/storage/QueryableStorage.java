@@ -0,0 +1,25 @@
+package me.piggypiglet.docdex.documentation.index.storage;
+
+import me.piggypiglet.docdex.config.Javadoc;
+import me.piggypiglet.docdex.documentation.objects.DocumentedObject;
+import me.piggypiglet.docdex.documentation.objects.MongoDocumentedObjectFields;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+public interface QueryableStorage extends IndexStorage {
+    @NotNull
+    Optional<DocumentedObject> get(@NotNull final Javadoc javadoc, @NotNull final MongoDocumentedObjectFields field,
+                                   @NotNull final String value);
+
+    // values without a match are left out, each value maps to the object a single get would have returned
+    @NotNull
+    Map<String, DocumentedObject> getAll(@NotNull final Javadoc javadoc, @NotNull final MongoDocumentedObjectFields field,
+                                         @NotNull final Collection<String> values);
+}
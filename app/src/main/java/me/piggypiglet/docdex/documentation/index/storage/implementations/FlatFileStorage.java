@@ -2,21 +2,26 @@ package me.piggypiglet.docdex.documentation.index.storage.implementations;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonWriter;
+import com.google.inject.Inject;
+import me.piggypiglet.docdex.config.Config;
 import me.piggypiglet.docdex.config.Javadoc;
 import me.piggypiglet.docdex.documentation.index.objects.DocumentedObjectKey;
 import me.piggypiglet.docdex.documentation.index.population.implementations.flatfile.adaptation.ObjectMapAdapter;
 import me.piggypiglet.docdex.documentation.index.storage.IndexStorage;
+import me.piggypiglet.docdex.documentation.index.update.IndexDelta;
 import me.piggypiglet.docdex.documentation.objects.DocumentedObject;
 import me.piggypiglet.docdex.documentation.utils.DataUtils;
-import me.piggypiglet.docdex.file.utils.FileUtils;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.Map;
 
 import static me.piggypiglet.docdex.documentation.index.population.implementations.flatfile.adaptation.ObjectMapAdapter.DESERIALIZED_TYPE;
@@ -28,31 +33,61 @@ import static me.piggypiglet.docdex.documentation.index.population.implementatio
 public final class FlatFileStorage implements IndexStorage {
     private static final Logger LOGGER = LoggerFactory.getLogger("FlatFileStorage");
     private static final Gson GSON = new GsonBuilder()
-            .registerTypeAdapter(DESERIALIZED_TYPE, new ObjectMapAdapter())
+            .registerTypeAdapterFactory(new ObjectMapAdapter())
             .create();
 
+    private final Config config;
+
+    @Inject
+    public FlatFileStorage(@NotNull final Config config) {
+        this.config = config;
+    }
+
     @Override
     public void save(@NotNull final Javadoc javadoc, @NotNull final Map<DocumentedObjectKey, DocumentedObject> objects) {
-        final String fileName = DataUtils.getName(javadoc) + ".json";
-        final Path file = Paths.get("docs", fileName);
+        // json is only written when snapshots are turned off, SnapshotStorage covers it otherwise
+        if (config.getIndex().isSnapshots()) {
+            return;
+        }
 
-        LOGGER.info("Attempting to save {}", fileName);
+        final Path file = getPath(javadoc);
 
         if (Files.exists(file)) {
-            LOGGER.info("{} already exists, not saving. Delete the file manually and restart the app if you wish to update the index.", fileName);
+            LOGGER.info("{} already exists, not saving. Use the update command if you wish to update the index.", file.getFileName());
             return;
-        } else {
-            try {
-                Files.createDirectories(file.getParent());
-                Files.createFile(file);
-            } catch (IOException exception) {
-                LOGGER.error("Something went wrong when creating " + fileName, exception);
-                return;
-            }
         }
 
+        write(file, objects);
+    }
+
+    @Override
+    public void update(@NotNull final Javadoc javadoc, @NotNull final Map<DocumentedObjectKey, DocumentedObject> objects,
+                       @NotNull final IndexDelta delta) {
+        if (!config.getIndex().isSnapshots()) {
+            write(getPath(javadoc), objects);
+        }
+    }
+
+    @NotNull
+    private static Path getPath(@NotNull final Javadoc javadoc) {
+        return Paths.get("docs", DataUtils.getName(javadoc) + ".json");
+    }
+
+    private static void write(@NotNull final Path file, @NotNull final Map<DocumentedObjectKey, DocumentedObject> objects) {
+        final String fileName = file.getFileName().toString();
+
+        LOGGER.info("Attempting to save {}", fileName);
+
         try {
-            FileUtils.writeFile(file, GSON.toJson(objects, DESERIALIZED_TYPE));
+            Files.createDirectories(file.getParent());
+        } catch (IOException exception) {
+            LOGGER.error("Something went wrong when creating " + fileName, exception);
+            return;
+        }
+
+        try (JsonWriter writer = GSON.newJsonWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING))) {
+            GSON.toJson(objects, DESERIALIZED_TYPE, writer);
         } catch (IOException exception) {
             LOGGER.error("Something went wrong when saving " + fileName, exception);
             return;
@@ -0,0 +1,104 @@
+package me.piggypiglet.docdex.documentation.index.storage.implementations;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import me.piggypiglet.docdex.config.Config;
+import me.piggypiglet.docdex.config.Javadoc;
+import me.piggypiglet.docdex.db.objects.MongoDocumentedObject;
+import me.piggypiglet.docdex.documentation.index.objects.DocumentedObjectKey;
+import me.piggypiglet.docdex.documentation.index.storage.QueryableStorage;
+import me.piggypiglet.docdex.documentation.objects.DocumentedObject;
+import me.piggypiglet.docdex.documentation.objects.MongoDocumentedObjectFields;
+import me.piggypiglet.docdex.documentation.utils.DataUtils;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+@Singleton
+public final class MemoryStorage implements QueryableStorage {
+    private static final Logger LOGGER = LoggerFactory.getLogger("MemoryStorage");
+    private static final MongoDocumentedObjectFields[] FIELDS = MongoDocumentedObjectFields.values();
+
+    private final Map<Javadoc, Map<MongoDocumentedObjectFields, Map<String, DocumentedObject>>> objects = new ConcurrentHashMap<>();
+
+    // read once, like DocumentationIndex's choice of storage, so a config reload can't split the two
+    private final boolean resident;
+
+    @Inject
+    public MemoryStorage(@NotNull final Config config) {
+        this.resident = config.getIndex().isResidentObjects();
+    }
+
+    @Override
+    public void save(@NotNull final Javadoc javadoc, @NotNull final Map<DocumentedObjectKey, DocumentedObject> objects) {
+        if (!resident) {
+            return;
+        }
+
+        final Map<MongoDocumentedObjectFields, Map<String, DocumentedObject>> fields = new EnumMap<>(MongoDocumentedObjectFields.class);
+
+        for (final MongoDocumentedObjectFields field : FIELDS) {
+            fields.put(field, new HashMap<>());
+        }
+
+        for (final Map.Entry<DocumentedObjectKey, DocumentedObject> entry : objects.entrySet()) {
+            final MongoDocumentedObject object = MongoDocumentedObject.of(entry.getKey(), entry.getValue());
+
+            for (final MongoDocumentedObjectFields field : FIELDS) {
+                final String value = object.get(field);
+
+                // non method objects have blank param fields, which would otherwise all collide on ""
+                if (!value.isEmpty()) {
+                    fields.get(field).putIfAbsent(value, object.getObject());
+                }
+            }
+        }
+
+        this.objects.put(javadoc, fields);
+        LOGGER.info("Loaded {} into memory.", DataUtils.getName(javadoc));
+    }
+
+    @NotNull
+    @Override
+    public Optional<DocumentedObject> get(@NotNull final Javadoc javadoc, @NotNull final MongoDocumentedObjectFields field,
+                                          @NotNull final String value) {
+        return Optional.ofNullable(objects.get(javadoc))
+                .map(fields -> fields.get(field).get(value));
+    }
+
+    @NotNull
+    @Override
+    public Map<String, DocumentedObject> getAll(@NotNull final Javadoc javadoc, @NotNull final MongoDocumentedObjectFields field,
+                                                @NotNull final Collection<String> values) {
+        final Map<MongoDocumentedObjectFields, Map<String, DocumentedObject>> fields = objects.get(javadoc);
+
+        if (fields == null) {
+            return Collections.emptyMap();
+        }
+
+        final Map<String, DocumentedObject> objects = fields.get(field);
+        final Map<String, DocumentedObject> results = new HashMap<>();
+
+        for (final String value : values) {
+            final DocumentedObject object = objects.get(value);
+
+            if (object != null) {
+                results.put(value, object);
+            }
+        }
+
+        return results;
+    }
+}
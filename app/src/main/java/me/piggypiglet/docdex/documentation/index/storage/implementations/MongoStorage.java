@@ -4,33 +4,52 @@ import com.google.inject.Inject;
 import com.mongodb.MongoCommandException;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.DeleteOneModel;
 import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.IndexModel;
+import com.mongodb.client.model.IndexOptions;
 import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.WriteModel;
 import me.piggypiglet.docdex.config.Javadoc;
 import me.piggypiglet.docdex.db.objects.MongoDocumentedObject;
 import me.piggypiglet.docdex.documentation.index.objects.DocumentedObjectKey;
-import me.piggypiglet.docdex.documentation.index.storage.IndexStorage;
+import me.piggypiglet.docdex.documentation.index.storage.QueryableStorage;
+import me.piggypiglet.docdex.documentation.index.update.IndexDelta;
 import me.piggypiglet.docdex.documentation.objects.DocumentedObject;
-import me.piggypiglet.docdex.documentation.objects.DocumentedTypes;
+import me.piggypiglet.docdex.documentation.objects.MongoDocumentedObjectFields;
 import me.piggypiglet.docdex.documentation.utils.DataUtils;
-import me.piggypiglet.docdex.documentation.utils.ParameterTypes;
+import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 // ------------------------------
 // Copyright (c) PiggyPiglet 2020
 // https://www.piggypiglet.me
 // ------------------------------
-public final class MongoStorage implements IndexStorage {
+public final class MongoStorage implements QueryableStorage {
     private static final Logger LOGGER = LoggerFactory.getLogger("MongoStorage");
-    private static final Bson INDEX = Indexes.hashed("identifier");
+    // hashed, so a long method signature costs the index 8 bytes rather than its whole length
+    private static final Map<String, IndexModel> INDEXES = Arrays.stream(MongoDocumentedObjectFields.values())
+            .map(MongoDocumentedObjectFields::getName)
+            .collect(Collectors.toMap(field -> field + "_hashed", field -> new IndexModel(Indexes.hashed(field),
+                    new IndexOptions().name(field + "_hashed"))));
 
     private final MongoDatabase database;
 
@@ -49,50 +68,99 @@ public final class MongoStorage implements IndexStorage {
             database.createCollection(javadocName);
         } catch (MongoCommandException exception) {
             LOGGER.info("Not saving {} to MongoDB as it already exists.", javadocName);
+            createIndexes(database.getCollection(javadocName));
             return;
         }
 
         final MongoCollection<MongoDocumentedObject> collection = database.getCollection(javadocName, MongoDocumentedObject.class);
-        final List<MongoDocumentedObject> mongoObjects = objects.entrySet().stream().map(entry -> {
-            final DocumentedObjectKey key = entry.getKey();
-            final DocumentedObject object = entry.getValue();
-
-            final MongoDocumentedObject.Builder builder = MongoDocumentedObject.builder(object)
-                    .name(key.getName())
-                    .fqn(key.getFqn());
-            final String fqn = key.getFqn();
-
-            if (object.getType() == DocumentedTypes.METHOD || object.getType() == DocumentedTypes.CONSTRUCTOR) {
-                final Map<ParameterTypes, String> params = key.getParams();
-                final String name = key.getName();
-
-                final String fullParams = '(' + params.get(ParameterTypes.FULL) + ')';
-                final String typeParams = '(' + params.get(ParameterTypes.TYPE) + ')';
-                final String nameParams = '(' + params.get(ParameterTypes.NAME) + ')';
-
-                builder.identifier(fqn + fullParams)
-                        .fullParams(name + fullParams)
-                        .typeParams(name + typeParams)
-                        .fqnTypeParams(fqn + typeParams)
-                        .nameParams(name + nameParams)
-                        .fqnNameParams(fqn + nameParams);
-            } else {
-                builder.identifier(fqn)
-                        .fullParams("")
-                        .typeParams("")
-                        .fqnTypeParams("")
-                        .nameParams("")
-                        .fqnNameParams("");
-            }
-
-            return builder.build();
-        }).collect(Collectors.toList());
+        final List<MongoDocumentedObject> mongoObjects = objects.entrySet().stream()
+                .map(entry -> MongoDocumentedObject.of(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
 
-        collection.createIndex(INDEX);
+        // indexed after the insert, building them once is cheaper than updating them per document
         collection.insertMany(mongoObjects);
+        createIndexes(collection);
         LOGGER.info("Saved {} to mongo.", javadocName);
     }
 
+    // one per field DocumentationIndex can look objects up by, so no lookup is a collection scan. existing collections
+    // are checked too, so ones saved before an index was added get it on the next start
+    public static void createIndexes(@NotNull final MongoCollection<?> collection) {
+        final Set<String> existing = new HashSet<>();
+
+        for (final Document index : collection.listIndexes()) {
+            existing.add(index.getString("name"));
+        }
+
+        final List<IndexModel> missing = INDEXES.entrySet().stream()
+                .filter(entry -> !existing.contains(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .collect(Collectors.toList());
+
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        LOGGER.info("Creating {} missing index(es) on {}.", missing.size(), collection.getNamespace().getCollectionName());
+        collection.createIndexes(missing);
+    }
+
+    @Override
+    public void update(@NotNull final Javadoc javadoc, @NotNull final Map<DocumentedObjectKey, DocumentedObject> objects,
+                       @NotNull final IndexDelta delta) {
+        final String javadocName = DataUtils.getName(javadoc);
+
+        if (!exists(javadocName)) {
+            save(javadoc, objects);
+            return;
+        }
+
+        createIndexes(database.getCollection(javadocName));
+
+        final List<WriteModel<MongoDocumentedObject>> writes = new ArrayList<>();
+
+        delta.getRemoved().forEach((key, object) -> writes.add(new DeleteOneModel<>(
+                Filters.eq("identifier", MongoDocumentedObject.of(key, object).getIdentifier())
+        )));
+        delta.getChanged().forEach((key, object) -> writes.add(replace(key, object)));
+        delta.getInserted().forEach((key, object) -> writes.add(replace(key, object)));
+
+        if (writes.isEmpty()) {
+            return;
+        }
+
+        LOGGER.info("Applying {} ({}) to MongoDB.", delta, javadocName);
+
+        // unordered, every write targets a different identifier so there's nothing to keep in sequence
+        database.getCollection(javadocName, MongoDocumentedObject.class)
+                .bulkWrite(writes, new BulkWriteOptions().ordered(false));
+        LOGGER.info("Updated {} in mongo.", javadocName);
+    }
+
+    @NotNull
+    private static WriteModel<MongoDocumentedObject> replace(@NotNull final DocumentedObjectKey key, @NotNull final DocumentedObject object) {
+        final MongoDocumentedObject mongoObject = MongoDocumentedObject.of(key, object);
+        return new ReplaceOneModel<>(Filters.eq("identifier", mongoObject.getIdentifier()), mongoObject,
+                new ReplaceOptions().upsert(true));
+    }
+
+    private boolean exists(@NotNull final String collection) {
+        for (final String name : database.listCollectionNames()) {
+            if (name.equals(collection)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @NotNull
+    @Override
+    public Optional<DocumentedObject> get(@NotNull final Javadoc javadoc, @NotNull final MongoDocumentedObjectFields field,
+                                          @NotNull final String value) {
+        return get(javadoc, Map.of(field.getName(), value));
+    }
+
     @NotNull
     public Optional<DocumentedObject> get(@NotNull final Javadoc javadoc, @NotNull final Map<String, String> filters) {
         final MongoCollection<MongoDocumentedObject> collection = database.getCollection(DataUtils.getName(javadoc), MongoDocumentedObject.class);
@@ -100,7 +168,33 @@ public final class MongoStorage implements IndexStorage {
                 .map(entry -> Filters.eq(entry.getKey(), entry.getValue()))
                 .collect(Collectors.toSet()));
 
-        return Optional.ofNullable(collection.find(filter).first())
-                .map(MongoDocumentedObject::getObject);
+        for (final MongoDocumentedObject object : collection.find(filter)) {
+            if (!object.isInherited()) {
+                return Optional.of(object.getObject());
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    @NotNull
+    @Override
+    public Map<String, DocumentedObject> getAll(@NotNull final Javadoc javadoc, @NotNull final MongoDocumentedObjectFields field,
+                                                @NotNull final Collection<String> values) {
+        if (values.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        final MongoCollection<MongoDocumentedObject> collection = database.getCollection(DataUtils.getName(javadoc), MongoDocumentedObject.class);
+        final Map<String, DocumentedObject> results = new HashMap<>();
+
+        // natural order, so the first document per value is the same one get would give
+        for (final MongoDocumentedObject object : collection.find(Filters.in(field.getName(), values))) {
+            if (!object.isInherited()) {
+                results.putIfAbsent(object.get(field), object.getObject());
+            }
+        }
+
+        return results;
     }
 }
@@ -0,0 +1,76 @@
+package me.piggypiglet.docdex.documentation.index.storage.implementations;
+
+import com.google.inject.Inject;
+import me.piggypiglet.docdex.config.Config;
+import me.piggypiglet.docdex.config.Javadoc;
+import me.piggypiglet.docdex.documentation.index.objects.DocumentedObjectKey;
+import me.piggypiglet.docdex.documentation.index.snapshot.SnapshotFormat;
+import me.piggypiglet.docdex.documentation.index.snapshot.SnapshotWriter;
+import me.piggypiglet.docdex.documentation.index.storage.IndexStorage;
+import me.piggypiglet.docdex.documentation.index.update.IndexDelta;
+import me.piggypiglet.docdex.documentation.objects.DocumentedObject;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+public final class SnapshotStorage implements IndexStorage {
+    private static final Logger LOGGER = LoggerFactory.getLogger("SnapshotStorage");
+
+    private final Config config;
+
+    @Inject
+    public SnapshotStorage(@NotNull final Config config) {
+        this.config = config;
+    }
+
+    @Override
+    public void save(@NotNull final Javadoc javadoc, @NotNull final Map<DocumentedObjectKey, DocumentedObject> objects) {
+        if (!config.getIndex().isSnapshots()) {
+            return;
+        }
+
+        final Path file = SnapshotFormat.getPath(javadoc);
+        final String fileName = file.getFileName().toString();
+
+        if (SnapshotFormat.isReadable(file)) {
+            LOGGER.info("{} already exists, not saving. Use the update command if you wish to update the index.", fileName);
+            return;
+        }
+
+        write(file, objects);
+    }
+
+    @Override
+    public void update(@NotNull final Javadoc javadoc, @NotNull final Map<DocumentedObjectKey, DocumentedObject> objects,
+                       @NotNull final IndexDelta delta) {
+        if (config.getIndex().isSnapshots()) {
+            // the writer swaps the new file in atomically, so the old snapshot stays intact until then
+            write(SnapshotFormat.getPath(javadoc), objects);
+        }
+    }
+
+    private static void write(@NotNull final Path file, @NotNull final Map<DocumentedObjectKey, DocumentedObject> objects) {
+        final String fileName = file.getFileName().toString();
+
+        LOGGER.info("Attempting to save {}", fileName);
+
+        try {
+            Files.createDirectories(file.getParent());
+            SnapshotWriter.write(file, objects);
+        } catch (IOException exception) {
+            LOGGER.error("Something went wrong when saving " + fileName, exception);
+            return;
+        }
+
+        LOGGER.info("Saved {}", fileName);
+    }
+}
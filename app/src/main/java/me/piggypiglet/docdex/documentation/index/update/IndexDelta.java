@@ -0,0 +1,77 @@
+package me.piggypiglet.docdex.documentation.index.update;
+
+import me.piggypiglet.docdex.documentation.index.objects.DocumentedObjectKey;
+import me.piggypiglet.docdex.documentation.objects.DocumentedObject;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+public final class IndexDelta {
+    private final Map<DocumentedObjectKey, DocumentedObject> inserted;
+    private final Map<DocumentedObjectKey, DocumentedObject> changed;
+    private final Map<DocumentedObjectKey, DocumentedObject> removed;
+
+    private IndexDelta(@NotNull final Map<DocumentedObjectKey, DocumentedObject> inserted,
+                       @NotNull final Map<DocumentedObjectKey, DocumentedObject> changed,
+                       @NotNull final Map<DocumentedObjectKey, DocumentedObject> removed) {
+        this.inserted = inserted;
+        this.changed = changed;
+        this.removed = removed;
+    }
+
+    @NotNull
+    public static IndexDelta of(@NotNull final Map<DocumentedObjectKey, DocumentedObject> previous,
+                                @NotNull final Map<DocumentedObjectKey, DocumentedObject> current) {
+        final Map<DocumentedObjectKey, DocumentedObject> inserted = new HashMap<>();
+        final Map<DocumentedObjectKey, DocumentedObject> changed = new HashMap<>();
+        final Map<DocumentedObjectKey, DocumentedObject> removed = new HashMap<>();
+
+        current.forEach((key, object) -> {
+            final DocumentedObject previousObject = previous.get(key);
+
+            if (previousObject == null) {
+                inserted.put(key, object);
+            } else if (!previousObject.equals(object)) {
+                changed.put(key, object);
+            }
+        });
+
+        previous.forEach((key, object) -> {
+            if (!current.containsKey(key)) {
+                removed.put(key, object);
+            }
+        });
+
+        return new IndexDelta(inserted, changed, removed);
+    }
+
+    @NotNull
+    public Map<DocumentedObjectKey, DocumentedObject> getInserted() {
+        return inserted;
+    }
+
+    // keyed to the new version of each object
+    @NotNull
+    public Map<DocumentedObjectKey, DocumentedObject> getChanged() {
+        return changed;
+    }
+
+    // keyed to the old version of each object
+    @NotNull
+    public Map<DocumentedObjectKey, DocumentedObject> getRemoved() {
+        return removed;
+    }
+
+    public boolean isEmpty() {
+        return inserted.isEmpty() && changed.isEmpty() && removed.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return inserted.size() + " inserted, " + changed.size() + " changed, " + removed.size() + " removed";
+    }
+}
@@ -0,0 +1,99 @@
+package me.piggypiglet.docdex.documentation.index.update;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import me.piggypiglet.docdex.config.Javadoc;
+import me.piggypiglet.docdex.documentation.index.DocumentationIndex;
+import me.piggypiglet.docdex.documentation.index.objects.DocumentedObjectKey;
+import me.piggypiglet.docdex.documentation.index.population.IndexPopulator;
+import me.piggypiglet.docdex.documentation.index.population.implementations.crawl.CrawlPopulator;
+import me.piggypiglet.docdex.documentation.index.storage.IndexStorage;
+import me.piggypiglet.docdex.documentation.objects.DocumentedObject;
+import me.piggypiglet.docdex.documentation.utils.DataUtils;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+@Singleton
+public final class IndexUpdater {
+    private static final Logger LOGGER = LoggerFactory.getLogger("IndexUpdater");
+
+    private final Set<IndexPopulator> populators;
+    private final Set<IndexStorage> storageMechanisms;
+    private final DocumentationIndex index;
+
+    // one at a time, so two updates of the same javadoc can't diff against the same stale copy
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "index-updater");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Inject
+    public IndexUpdater(@NotNull @Named("populators") final Set<IndexPopulator> populators,
+                        @NotNull @Named("storage") final Set<IndexStorage> storageMechanisms,
+                        @NotNull final DocumentationIndex index) {
+        this.populators = populators;
+        this.storageMechanisms = storageMechanisms;
+        this.index = index;
+    }
+
+    // rebuilt in the background, queries keep hitting the old index until the new one is swapped in
+    @NotNull
+    public CompletableFuture<Void> update(@NotNull final Javadoc javadoc) {
+        return CompletableFuture.runAsync(() -> rebuild(javadoc), executor).exceptionally(throwable -> {
+            LOGGER.error("Something went wrong when updating " + DataUtils.getName(javadoc), throwable);
+            return null;
+        });
+    }
+
+    private void rebuild(@NotNull final Javadoc javadoc) {
+        final String javadocName = DataUtils.getName(javadoc);
+        final IndexPopulator crawler = populators.stream()
+                .filter(CrawlPopulator.class::isInstance)
+                .filter(populator -> ((CrawlPopulator) populator).canCrawl(javadoc))
+                .findAny()
+                .orElseThrow(() -> new IllegalStateException("No crawler is registered for " + javadoc.getLink()));
+
+        LOGGER.info("Attempting to update {}.", javadocName);
+
+        final Map<DocumentedObjectKey, DocumentedObject> current = populators.stream()
+                .filter(populator -> !(populator instanceof CrawlPopulator))
+                .filter(populator -> populator.shouldPopulate(javadoc))
+                .findAny()
+                .map(populator -> populator.provideObjects(javadoc))
+                .orElse(Collections.emptyMap());
+        final Map<DocumentedObjectKey, DocumentedObject> fresh = crawler.provideObjects(javadoc);
+
+        // an empty crawl is far more likely to be the site being down than every object being removed
+        if (fresh.isEmpty()) {
+            LOGGER.error("No objects were indexed for {}, leaving the current index in place.", javadocName);
+            return;
+        }
+
+        final IndexDelta delta = IndexDelta.of(current, fresh);
+
+        if (delta.isEmpty()) {
+            LOGGER.info("{} is already up to date.", javadocName);
+            return;
+        }
+
+        LOGGER.info("{}: {}.", javadocName, delta);
+        storageMechanisms.forEach(storage -> storage.update(javadoc, fresh, delta));
+        index.populate(javadoc, fresh);
+        System.gc();
+        LOGGER.info("Updated {}.", javadocName);
+    }
+}
@@ -4,12 +4,14 @@ import me.piggypiglet.docdex.documentation.index.algorithm.Algorithm;
 import me.piggypiglet.docdex.documentation.index.algorithm.AlgorithmOption;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.Set;
+import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 // ------------------------------
@@ -30,6 +32,107 @@ public final class StreamUtils {
     @NotNull
     public static Stream<String> orderByAlgorithm(@NotNull final Stream<String> strings, @NotNull final String query,
                                                   @NotNull final Algorithm algorithm, @NotNull final AlgorithmOption option) {
-        return strings.sorted(Comparator.comparingDouble(string -> algorithm.calculate(query, string, option)));
+        return strings.map(string -> Map.entry(string, algorithm.calculate(query, string, option)))
+                .sorted(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey);
+    }
+
+    @NotNull
+    public static List<String> topByAlgorithm(@NotNull final Collection<String> strings, @NotNull final String query,
+                                              @NotNull final Algorithm algorithm, @NotNull final AlgorithmOption option,
+                                              final int limit) {
+        return top(strings, (string, bound) -> algorithm.calculate(query, string, option, bound), limit);
+    }
+
+    // lowest scores first, ties keep encounter order. every element is scored exactly once, and only the
+    // elements that make it into the heap are ever allocated a holder.
+    @NotNull
+    public static <T> List<T> top(@NotNull final Collection<T> elements, @NotNull final ToDoubleFunction<? super T> scorer,
+                                  final int limit) {
+        return top(elements, (BoundedScorer<T>) (element, bound) -> scorer.applyAsDouble(element), limit);
+    }
+
+    // same as above, but the scorer is told the score it has to beat once the heap is full
+    @NotNull
+    public static <T> List<T> top(@NotNull final Collection<T> elements, @NotNull final BoundedScorer<? super T> scorer,
+                                  final int limit) {
+        return topScored(elements, scorer, limit, 0).stream()
+                .sorted()
+                .map(scored -> scored.element)
+                .collect(Collectors.toList());
+    }
+
+    // collections over the threshold are split into contiguous chunks, each cut down to the limit on the pool,
+    // then merged. chunks keep their offsets, so ties still resolve in encounter order.
+    @NotNull
+    public static <T> List<T> top(@NotNull final Collection<T> elements, @NotNull final BoundedScorer<? super T> scorer,
+                                  final int limit, @NotNull final ForkJoinPool pool, final int threshold) {
+        final int size = elements.size();
+        final int chunks = threshold <= 0 ? 1 : (int) Math.min(pool.getParallelism(), (size + (long) threshold - 1) / threshold);
+
+        if (limit <= 0 || chunks <= 1) {
+            return top(elements, scorer, limit);
+        }
+
+        final List<T> list = elements instanceof List ? (List<T>) elements : new ArrayList<>(elements);
+        final int chunkSize = (size + chunks - 1) / chunks;
+
+        return pool.submit(() -> IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> topScored(list.subList(chunk * chunkSize, Math.min(size, (chunk + 1) * chunkSize)), scorer, limit, chunk * chunkSize))
+                .flatMap(Collection::stream)
+                .sorted()
+                .limit(limit)
+                .map(scored -> scored.element)
+                .collect(Collectors.toList())
+        ).join();
+    }
+
+    @NotNull
+    private static <T> Collection<Scored<T>> topScored(@NotNull final Collection<T> elements, @NotNull final BoundedScorer<? super T> scorer,
+                                                       final int limit, final int offset) {
+        if (limit <= 0 || elements.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final PriorityQueue<Scored<T>> heap = new PriorityQueue<>(Math.min(limit, elements.size()), Comparator.reverseOrder());
+        int index = offset;
+
+        for (final T element : elements) {
+            final double score = scorer.score(element, heap.size() < limit ? Double.POSITIVE_INFINITY : heap.peek().score);
+
+            if (heap.size() < limit) {
+                heap.add(new Scored<>(element, score, index));
+            } else if (score < heap.peek().score) {
+                heap.poll();
+                heap.add(new Scored<>(element, score, index));
+            }
+
+            ++index;
+        }
+
+        return heap;
+    }
+
+    @FunctionalInterface
+    public interface BoundedScorer<T> {
+        double score(@NotNull final T element, final double bound);
+    }
+
+    private static final class Scored<T> implements Comparable<Scored<T>> {
+        private final T element;
+        private final double score;
+        private final int index;
+
+        private Scored(@NotNull final T element, final double score, final int index) {
+            this.element = element;
+            this.score = score;
+            this.index = index;
+        }
+
+        @Override
+        public int compareTo(@NotNull final Scored<T> other) {
+            final int comparison = Double.compare(score, other.score);
+            return comparison != 0 ? comparison : Integer.compare(index, other.index);
+        }
     }
 }
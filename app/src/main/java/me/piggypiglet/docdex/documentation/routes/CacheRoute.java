@@ -0,0 +1,40 @@
+package me.piggypiglet.docdex.documentation.routes;
+
+import com.google.common.cache.CacheStats;
+import com.google.inject.Inject;
+import me.piggypiglet.docdex.documentation.index.cache.QueryCache;
+import me.piggypiglet.docdex.http.request.Request;
+import me.piggypiglet.docdex.http.route.json.JsonRoute;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+public final class CacheRoute extends JsonRoute {
+    private final QueryCache cache;
+
+    @Inject
+    public CacheRoute(@NotNull final QueryCache cache) {
+        super("cache");
+        this.cache = cache;
+    }
+
+    @NotNull
+    @Override
+    protected Object respond(@NotNull final Request request) {
+        final CacheStats stats = cache.getStats();
+        final Map<String, Object> response = new LinkedHashMap<>();
+
+        response.put("size", cache.size());
+        response.put("hits", stats.hitCount());
+        response.put("misses", stats.missCount());
+        response.put("evictions", stats.evictionCount());
+        response.put("hit_rate", stats.hitRate());
+        response.put("average_load_millis", stats.averageLoadPenalty() / 1_000_000D);
+        return response;
+    }
+}
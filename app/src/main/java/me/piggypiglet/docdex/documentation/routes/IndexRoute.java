@@ -9,14 +9,13 @@ import me.piggypiglet.docdex.config.Javadoc;
 import me.piggypiglet.docdex.documentation.index.DocumentationIndex;
 import me.piggypiglet.docdex.documentation.index.algorithm.Algorithm;
 import me.piggypiglet.docdex.documentation.index.algorithm.AlgorithmOption;
+import me.piggypiglet.docdex.documentation.index.query.QueryParser;
 import me.piggypiglet.docdex.http.request.Request;
 import me.piggypiglet.docdex.http.route.exceptions.StatusCodeException;
 import me.piggypiglet.docdex.http.route.json.JsonRoute;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
@@ -30,18 +29,18 @@ public final class IndexRoute extends JsonRoute {
     private static final int DEFAULT_LIMIT = 5;
 
     private final DocumentationIndex index;
-    private final Map<String, Javadoc> javadocs;
+    private final QueryParser parser;
+    private final Config config;
     private final Set<CompletableFuture<?>> startupHooks;
 
     @Inject
-    public IndexRoute(@NotNull final DocumentationIndex index, @NotNull final Config config,
+    public IndexRoute(@NotNull final DocumentationIndex index, @NotNull final QueryParser parser, @NotNull final Config config,
                       @NotNull @Named("startup") final Set<CompletableFuture<?>> startupHooks) {
         super("index");
         this.index = index;
-        this.javadocs = new HashMap<>();
+        this.parser = parser;
+        this.config = config;
         this.startupHooks = startupHooks;
-
-        config.getJavadocs().forEach(javadoc -> javadoc.getNames().forEach(name -> javadocs.put(name, javadoc)));
     }
 
     @Nullable
@@ -53,10 +52,7 @@ public final class IndexRoute extends JsonRoute {
 
         final Multimap<String, String> params = request.getParams();
         final String javadocName = params.get("javadoc").stream().findAny().orElse(null);
-        final String query = params.get("query").stream().findAny()
-                .map(str -> str.replace("~", "#"))
-                .map(str -> str.replace("-", "%"))
-                .orElse(null);
+        final String query = params.get("query").stream().findAny().orElse(null);
         final Algorithm algorithm = params.get("algorithm").stream().findAny()
                 .map(String::toUpperCase)
                 .map(Algorithm.NAMES::get)
@@ -71,12 +67,13 @@ public final class IndexRoute extends JsonRoute {
             return null;
         }
 
-        final Javadoc javadoc = javadocs.get(javadocName);
+        // config.json can gain javadocs & have them updated in without a restart, so this follows its reloads
+        final Javadoc javadoc = config.getJavadoc(javadocName);
 
         if (javadoc == null) {
             return null;
         }
 
-        return index.get(javadoc, query.replace("%20", " "), algorithm, algorithmOption, limit);
+        return index.get(javadoc, parser.parse(query), algorithm, algorithmOption, limit);
     }
 }
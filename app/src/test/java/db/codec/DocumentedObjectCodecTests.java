@@ -0,0 +1,180 @@
+package db.codec;
+
+import com.google.gson.Gson;
+import com.google.inject.util.Types;
+import com.mongodb.MongoClient;
+import me.piggypiglet.docdex.db.codec.*;
+import me.piggypiglet.docdex.db.objects.MongoDocumentedObject;
+import me.piggypiglet.docdex.documentation.index.objects.DocumentedObjectKey;
+import me.piggypiglet.docdex.documentation.objects.DocumentedObject;
+import me.piggypiglet.docdex.documentation.objects.DocumentedTypes;
+import me.piggypiglet.docdex.documentation.objects.MongoDocumentedObjectFields;
+import me.piggypiglet.docdex.documentation.objects.detail.field.DocumentedFieldBuilder;
+import me.piggypiglet.docdex.documentation.objects.detail.method.DocumentedMethodBuilder;
+import me.piggypiglet.docdex.documentation.objects.type.DocumentedTypeBuilder;
+import me.piggypiglet.docdex.documentation.objects.type.TypeMetadata;
+import me.piggypiglet.docdex.documentation.utils.DataUtils;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.Document;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+public final class DocumentedObjectCodecTests {
+    private static final DocumentedObjectCodec CODEC = new DocumentedObjectCodec(new DocumentedObjectBodyCodec(
+            new TypeMetadataCodec(), new MethodMetadataCodec(), new FieldMetadataCodec()
+    ));
+    private static final Codec<Document> DOCUMENT_CODEC = MongoClient.getDefaultCodecRegistry().get(Document.class);
+    private static final Gson GSON = new Gson();
+
+    private static final List<MongoDocumentedObject> SAMPLES;
+
+    static {
+        final DocumentedObject type = new DocumentedTypeBuilder()
+                .type(DocumentedTypes.CLASS)
+                .packaj("java.util")
+                .name("HashMap<K,V>")
+                .link("https://docs.oracle.com/java.base/java/util/HashMap.html")
+                .description("<p>Hash table based implementation of the <code>Map</code> interface.</p>")
+                .strippedDescription("Hash table based implementation of the Map interface.")
+                .annotations("@Deprecated")
+                .modifiers("public", "class")
+                .extensions("java.util.AbstractMap")
+                .implementations("java.util.Map", "java.lang.Cloneable", "java.io.Serializable")
+                .allImplementations("java.util.Map")
+                .subClasses("java.util.LinkedHashMap")
+                .build();
+        final TypeMetadata typeMetadata = (TypeMetadata) type.getMetadata();
+        typeMetadata.getMethods().add("java.util.hashmap#get(java.lang.object)");
+        typeMetadata.getFields().add("java.util.hashmap%modcount");
+
+        final DocumentedObject method = new DocumentedMethodBuilder()
+                .type(DocumentedTypes.METHOD)
+                .packaj("java.util")
+                .name("compute")
+                .link("https://docs.oracle.com/java.base/java/util/HashMap.html#compute")
+                .deprecated(true)
+                .deprecationMessage("don't")
+                .modifiers("public", "V")
+                .owner("java.util.HashMap")
+                .returns("V")
+                .returnsDescription("the new value")
+                .parameters("K key", "Map$Entry<K,V> entry")
+                .parameterDescriptions("key", "key with which the value is to be associated")
+                .parameterDescriptions("Map$Entry", "an entry")
+                .throwing("IllegalStateException", "if the computation detectably attempts a recursive update")
+                .throwing("ConcurrentModificationException", "if it is detected that the remapping function modified this map")
+                .build();
+
+        final DocumentedObject constructor = new DocumentedMethodBuilder()
+                .type(DocumentedTypes.CONSTRUCTOR)
+                .packaj("java.util")
+                .name("HashMap")
+                .owner("java.util.HashMap")
+                .build();
+
+        final DocumentedObject field = new DocumentedFieldBuilder()
+                .type(DocumentedTypes.FIELD)
+                .packaj("java.util")
+                .name("modCount")
+                .modifiers("transient", "int")
+                .owner("java.util.HashMap")
+                .returns("int")
+                .build();
+
+        SAMPLES = List.of(
+                MongoDocumentedObject.of(new DocumentedObjectKey("hashmap", "java.util.hashmap", Map.of()), type),
+                MongoDocumentedObject.of(new DocumentedObjectKey("compute", "java.util.hashmap#compute", DataUtils.getParams(method)), method),
+                MongoDocumentedObject.of(new DocumentedObjectKey("hashmap", "java.util.hashmap#hashmap", DataUtils.getParams(constructor)), constructor),
+                MongoDocumentedObject.of(new DocumentedObjectKey("modcount", "java.util.hashmap%modcount", Map.of()), field)
+        );
+    }
+
+    @Test
+    void roundTrip() {
+        for (final MongoDocumentedObject sample : SAMPLES) {
+            assertSame(sample, decode(encode(sample)));
+        }
+    }
+
+    @Test
+    void decodesLegacyEncoding() {
+        for (final MongoDocumentedObject sample : SAMPLES) {
+            assertSame(sample, decode(legacyEncode(sample)));
+        }
+    }
+
+    @Test
+    void matchesLegacyLayout() {
+        for (final MongoDocumentedObject sample : SAMPLES) {
+            assertEquals(legacyEncode(sample), encode(sample), sample.getIdentifier());
+        }
+    }
+
+    @Test
+    void decodesMetadataBeforeType() {
+        final MongoDocumentedObject sample = SAMPLES.get(1);
+        final BsonDocument document = encode(sample);
+        final BsonDocument object = document.getDocument("object");
+        final BsonDocument reordered = new BsonDocument("metadata", object.get("metadata"));
+
+        object.forEach((key, value) -> {
+            if (!key.equals("metadata")) {
+                reordered.put(key, value);
+            }
+        });
+
+        document.put("object", reordered);
+        assertSame(sample, decode(document));
+    }
+
+    @Test
+    void escapesParameters() {
+        final BsonDocument metadata = encode(SAMPLES.get(1)).getDocument("object").getDocument("metadata");
+
+        assertEquals("Map!Entry<K,V> entry", metadata.getArray("parameters").get(1).asString().getValue());
+        assertTrue(metadata.getDocument("parameterDescriptions").containsKey("Map!Entry"));
+    }
+
+    private static void assertSame(@NotNull final MongoDocumentedObject expected, @NotNull final MongoDocumentedObject actual) {
+        assertEquals(expected.getObject(), actual.getObject(), expected.getIdentifier());
+
+        for (final MongoDocumentedObjectFields field : MongoDocumentedObjectFields.values()) {
+            assertEquals(expected.get(field), actual.get(field), field.getName());
+        }
+    }
+
+    @NotNull
+    private static BsonDocument encode(@NotNull final MongoDocumentedObject object) {
+        final BsonDocument document = new BsonDocument();
+        CODEC.encode(new BsonDocumentWriter(document), object, EncoderContext.builder().build());
+        return document;
+    }
+
+    // what DocumentedObjectCodec used to do, kept here to prove existing collections stay readable
+    @NotNull
+    private static BsonDocument legacyEncode(@NotNull final MongoDocumentedObject object) {
+        final BsonDocument document = new BsonDocument();
+        DOCUMENT_CODEC.encode(new BsonDocumentWriter(document), new Document(GSON.fromJson(GSON.toJsonTree(object),
+                Types.mapOf(String.class, Object.class))), EncoderContext.builder().build());
+        return document;
+    }
+
+    @NotNull
+    private static MongoDocumentedObject decode(@NotNull final BsonDocument document) {
+        return CODEC.decode(new BsonDocumentReader(document), DecoderContext.builder().build());
+    }
+}
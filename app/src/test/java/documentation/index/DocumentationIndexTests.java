@@ -0,0 +1,120 @@
+package documentation.index;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.GsonBuilder;
+import me.piggypiglet.docdex.config.Config;
+import me.piggypiglet.docdex.config.Javadoc;
+import me.piggypiglet.docdex.documentation.index.DocumentationIndex;
+import me.piggypiglet.docdex.documentation.index.algorithm.Algorithm;
+import me.piggypiglet.docdex.documentation.index.algorithm.AlgorithmOption;
+import me.piggypiglet.docdex.documentation.index.cache.QueryCache;
+import me.piggypiglet.docdex.documentation.index.objects.DocumentedObjectKey;
+import me.piggypiglet.docdex.documentation.index.query.QueryParser;
+import me.piggypiglet.docdex.documentation.index.search.SearchExecutor;
+import me.piggypiglet.docdex.documentation.index.storage.implementations.MemoryStorage;
+import me.piggypiglet.docdex.documentation.index.storage.implementations.MongoStorage;
+import me.piggypiglet.docdex.documentation.objects.DocumentedObject;
+import me.piggypiglet.docdex.documentation.objects.DocumentedObjectResult;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static documentation.index.TestObjects.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+public final class DocumentationIndexTests {
+    private static final String CONFIG = "{\"index\": {\"resident_objects\": true, \"snapshots\": false, \"cache\": {\"maximum_size\": 0}}}";
+    private static final Javadoc JAVADOC = new Javadoc(Set.of("bukkit"), "https://example.com/", "https://example.com/");
+
+    private static final DocumentedObject ENTITY_TELEPORT = method("org.bukkit.entity", "Entity", "teleport", "Location location");
+    private static final DocumentedObject ENTITY_GET_HEALTH = method("org.bukkit.entity", "Entity", "getHealth");
+    private static final DocumentedObject PLAYER_GET_HEALTH = method("org.bukkit.entity", "Player", "getHealth");
+    private static final DocumentedObject OTHER_ENTITY_EXPLODE = method("org.other", "Entity", "explode");
+
+    private static final QueryParser PARSER = new QueryParser();
+    private static DocumentationIndex index;
+
+    @BeforeAll
+    static void populate() {
+        final Config config = new GsonBuilder()
+                .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+                .create()
+                .fromJson(CONFIG, Config.class);
+        final MemoryStorage storage = new MemoryStorage(config);
+        final Map<DocumentedObjectKey, DocumentedObject> objects = new HashMap<>();
+
+        put(objects, type("org.bukkit.entity", "Entity"));
+        put(objects, type("org.bukkit.entity", "LivingEntity", "org.bukkit.entity.Entity"));
+        put(objects, type("org.bukkit.entity", "Player", "org.bukkit.entity.LivingEntity"));
+        put(objects, type("org.other", "Entity"));
+        put(objects, ENTITY_TELEPORT);
+        put(objects, ENTITY_GET_HEALTH);
+        put(objects, PLAYER_GET_HEALTH);
+        put(objects, OTHER_ENTITY_EXPLODE);
+
+        index = new DocumentationIndex(config, new MongoStorage(null), storage, new QueryCache(config), new SearchExecutor(config));
+        storage.save(JAVADOC, objects);
+        index.populate(JAVADOC, objects);
+    }
+
+    @Test
+    void exactInheritedMethod() {
+        final List<DocumentedObjectResult> results = get("player#teleport(location location)");
+
+        assertEquals(1, results.size());
+        assertEquals("player#teleport(location location)", results.get(0).getName());
+        assertSame(ENTITY_TELEPORT, results.get(0).getObject());
+    }
+
+    @Test
+    void fuzzyInheritedMethod() {
+        final List<DocumentedObjectResult> results = get("org.bukkit.entity.player#teleprt");
+
+        assertFalse(results.isEmpty());
+        assertTrue(results.get(0).getName().startsWith("org.bukkit.entity.player#teleport("));
+        assertSame(ENTITY_TELEPORT, results.get(0).getObject());
+    }
+
+    @Test
+    void ownDeclarationWins() {
+        final List<DocumentedObjectResult> results = get("player#gethealth()");
+
+        assertEquals(1, results.size());
+        assertSame(PLAYER_GET_HEALTH, results.get(0).getObject());
+    }
+
+    @Test
+    void misspeltOwnerInherits() {
+        final List<DocumentedObjectResult> results = get("playr#teleport");
+
+        assertFalse(results.isEmpty());
+        assertTrue(results.get(0).getName().startsWith("player#teleport("));
+        assertSame(ENTITY_TELEPORT, results.get(0).getObject());
+    }
+
+    @Test
+    void sameNameTypesStaySeparate() {
+        final List<DocumentedObjectResult> exact = get("entity#explode()");
+
+        assertEquals(1, exact.size());
+        assertSame(OTHER_ENTITY_EXPLODE, exact.get(0).getObject());
+        assertTrue(get("player#explode()").stream()
+                .noneMatch(result -> result.getName().startsWith("player#explode(")));
+        assertTrue(get("org.bukkit.entity.player#explode()").stream()
+                .noneMatch(result -> result.getName().startsWith("org.bukkit.entity.player#explode(")));
+    }
+
+    @NotNull
+    private static List<DocumentedObjectResult> get(@NotNull final String query) {
+        return index.get(JAVADOC, PARSER.parse(query), Algorithm.JARO_WINKLER, AlgorithmOption.SIMILARITY, 5);
+    }
+}
@@ -0,0 +1,63 @@
+package documentation.index;
+
+import me.piggypiglet.docdex.documentation.index.objects.DocumentedObjectKey;
+import me.piggypiglet.docdex.documentation.objects.DocumentedObject;
+import me.piggypiglet.docdex.documentation.objects.DocumentedTypes;
+import me.piggypiglet.docdex.documentation.objects.detail.method.DocumentedMethodBuilder;
+import me.piggypiglet.docdex.documentation.objects.type.DocumentedTypeBuilder;
+import me.piggypiglet.docdex.documentation.utils.DataUtils;
+import me.piggypiglet.docdex.documentation.utils.ParameterTypes;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+public final class TestObjects {
+    public static final Map<ParameterTypes, String> NO_PARAMETERS = Map.of(
+            ParameterTypes.FULL, "", ParameterTypes.TYPE, "", ParameterTypes.NAME, ""
+    );
+
+    private TestObjects() {
+        throw new AssertionError("This class cannot be instantiated.");
+    }
+
+    @NotNull
+    public static DocumentedObject type(@NotNull final String packaj, @NotNull final String name,
+                                        @NotNull final String... extensions) {
+        return new DocumentedTypeBuilder()
+                .type(DocumentedTypes.INTERFACE)
+                .packaj(packaj)
+                .name(name)
+                .extensions(extensions)
+                .build();
+    }
+
+    @NotNull
+    public static DocumentedObject method(@NotNull final String packaj, @NotNull final String owner, @NotNull final String name,
+                                          @NotNull final String... parameters) {
+        return new DocumentedMethodBuilder()
+                .type(DocumentedTypes.METHOD)
+                .packaj(packaj)
+                .name(name)
+                .owner(owner)
+                .returns("void")
+                .parameters(parameters)
+                .build();
+    }
+
+    @NotNull
+    public static DocumentedObjectKey key(@NotNull final DocumentedObject object) {
+        return new DocumentedObjectKey(
+                DataUtils.getName(object).toLowerCase(),
+                DataUtils.getFqn(object).toLowerCase(),
+                DocumentedTypes.isType(object.getType()) ? NO_PARAMETERS : DataUtils.getParams(object)
+        );
+    }
+
+    public static void put(@NotNull final Map<DocumentedObjectKey, DocumentedObject> objects, @NotNull final DocumentedObject object) {
+        objects.put(key(object), object);
+    }
+}
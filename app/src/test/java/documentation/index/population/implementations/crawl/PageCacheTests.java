@@ -0,0 +1,175 @@
+package documentation.index.population.implementations.crawl;
+
+import documentation.index.TestObjects;
+import me.piggypiglet.docdex.config.Javadoc;
+import me.piggypiglet.docdex.documentation.index.population.implementations.crawl.Page;
+import me.piggypiglet.docdex.documentation.index.population.implementations.crawl.PageCache;
+import me.piggypiglet.docdex.documentation.objects.DocumentedObject;
+import me.piggypiglet.docdex.documentation.utils.DataUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+public final class PageCacheTests {
+    private static final Javadoc JAVADOC = new Javadoc(Set.of("bukkit"), "https://example.com/", "https://example.com/bukkit");
+    private static final Javadoc MOVED = new Javadoc(Set.of("bukkit"), "https://example.com/", "https://example.com/moved");
+    private static final String ENTITY_URL = "https://example.com/org/bukkit/entity/Entity.html";
+    private static final String PLAYER_URL = "https://example.com/org/bukkit/entity/Player.html";
+    private static final String ETAG = "\"v1\"";
+
+    private final AtomicInteger deserialized = new AtomicInteger();
+
+    @TempDir
+    Path root;
+
+    @Test
+    void notModifiedReusesObjects() {
+        final Set<DocumentedObject> objects = deserialize(PageCache.open(root, JAVADOC), ENTITY_URL, "Entity");
+
+        PageCache cache = PageCache.open(root, JAVADOC);
+        final PageCache.Entry entry = cache.get(ENTITY_URL);
+
+        assertNotNull(entry);
+        assertEquals(ETAG, entry.getEtag());
+        assertEquals(objects, cache.reuse(ENTITY_URL, entry));
+        cache.save();
+
+        cache = PageCache.open(root, JAVADOC);
+        assertNotNull(cache.get(ENTITY_URL));
+        assertEquals(1, deserialized.get());
+    }
+
+    @Test
+    void unchangedPageSkipsDeserialization() {
+        final Set<DocumentedObject> objects = deserialize(PageCache.open(root, JAVADOC), ENTITY_URL, "Entity");
+
+        assertEquals(objects, deserialize(PageCache.open(root, JAVADOC), ENTITY_URL, "Entity"));
+        assertEquals(1, deserialized.get());
+    }
+
+    @Test
+    void sameBodyUnderAnotherLinkIsDeserialized() {
+        final PageCache cache = PageCache.open(root, JAVADOC);
+        final Page page = page(ENTITY_URL, "Entity");
+
+        cache.deserialize(ENTITY_URL, "https://example.com/bukkit/Entity.html", page, this::deserialize, TestObjects::key);
+        cache.deserialize(PLAYER_URL, "https://example.com/bukkit/Player.html", page, this::deserialize, TestObjects::key);
+
+        assertEquals(2, deserialized.get());
+    }
+
+    @Test
+    void changedLinkInvalidates() throws IOException {
+        deserialize(PageCache.open(root, JAVADOC), ENTITY_URL, "Entity");
+
+        final PageCache cache = PageCache.open(root, MOVED);
+
+        assertNull(cache.get(ENTITY_URL));
+        assertTrue(getObjectFiles().isEmpty());
+        deserialize(cache, ENTITY_URL, "Entity");
+        assertEquals(2, deserialized.get());
+    }
+
+    @Test
+    void changedVersionInvalidates() throws IOException {
+        deserialize(PageCache.open(root, JAVADOC), ENTITY_URL, "Entity");
+
+        final Path index = getDirectory().resolve("pages.json");
+        Files.writeString(index, Files.readString(index).replace("\"version\":1", "\"version\":0"));
+
+        final PageCache cache = PageCache.open(root, JAVADOC);
+
+        assertNull(cache.get(ENTITY_URL));
+        assertTrue(getObjectFiles().isEmpty());
+        deserialize(cache, ENTITY_URL, "Entity");
+        assertEquals(2, deserialized.get());
+    }
+
+    @Test
+    void unsavedObjectsAreNeverRead() throws IOException {
+        final PageCache cache = PageCache.open(root, JAVADOC);
+
+        deserialize(cache, ENTITY_URL, "Entity", false);
+        assertFalse(getObjectFiles().isEmpty());
+
+        // the crawl that wrote them never got as far as save
+        deserialize(PageCache.open(root, JAVADOC), ENTITY_URL, "Entity");
+        assertEquals(2, deserialized.get());
+    }
+
+    @Test
+    void savePrunesUnreferencedObjects() throws IOException {
+        PageCache cache = PageCache.open(root, JAVADOC);
+        deserialize(cache, ENTITY_URL, "Entity", false);
+        deserialize(cache, PLAYER_URL, "Player", false);
+        cache.save();
+
+        assertEquals(2, getObjectFiles().size());
+
+        cache = PageCache.open(root, JAVADOC);
+        deserialize(cache, ENTITY_URL, "Entity");
+
+        assertEquals(1, getObjectFiles().size());
+        assertNull(PageCache.open(root, JAVADOC).get(PLAYER_URL));
+        assertEquals(2, deserialized.get());
+    }
+
+    @NotNull
+    private Set<DocumentedObject> deserialize(@NotNull final PageCache cache, @NotNull final String url, @NotNull final String name) {
+        return deserialize(cache, url, name, true);
+    }
+
+    @NotNull
+    private Set<DocumentedObject> deserialize(@NotNull final PageCache cache, @NotNull final String url, @NotNull final String name,
+                                              final boolean save) {
+        final Set<DocumentedObject> objects = cache.deserialize(url, JAVADOC.getActualLink() + '/' + name + ".html",
+                page(url, name), this::deserialize, TestObjects::key);
+
+        if (save) {
+            cache.save();
+        }
+
+        return objects;
+    }
+
+    @NotNull
+    private Set<DocumentedObject> deserialize(@NotNull final Document document, @NotNull final String link) {
+        deserialized.incrementAndGet();
+
+        return Set.of(TestObjects.type("org.bukkit.entity", document.title()));
+    }
+
+    @NotNull
+    private Path getDirectory() {
+        return root.resolve(DataUtils.getName(JAVADOC));
+    }
+
+    @NotNull
+    private Set<Path> getObjectFiles() throws IOException {
+        try (Stream<Path> files = Files.list(getDirectory())) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".dex"))
+                    .collect(Collectors.toSet());
+        }
+    }
+
+    @NotNull
+    private static Page page(@NotNull final String url, @NotNull final String name) {
+        return Page.of(url, ("<html><head><title>" + name + "</title></head></html>").getBytes(StandardCharsets.UTF_8), ETAG, null);
+    }
+}
@@ -0,0 +1,167 @@
+package documentation.index.population.implementations.web.crawler;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import me.piggypiglet.docdex.config.Config;
+import me.piggypiglet.docdex.documentation.index.population.implementations.crawl.Page;
+import me.piggypiglet.docdex.documentation.index.population.implementations.crawl.PageCache;
+import me.piggypiglet.docdex.documentation.index.population.implementations.web.crawler.PageCrawler;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+public final class PageCrawlerTests {
+    private static final String CONFIG = "{\"index\": {\"crawl\": {\"connections_per_host\": 2, \"retries\": 2, \"backoff_millis\": 10}}}";
+    private static final Gson GSON = new GsonBuilder()
+            .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+            .create();
+    private static final String PAGE = "<html><body><a href=\"other.html\">link</a></body></html>";
+    private static final String ETAG = "\"v1\"";
+
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger maxActive = new AtomicInteger();
+    private final AtomicInteger failures = new AtomicInteger();
+
+    private HttpServer server;
+    private PageCrawler crawler;
+    private String base;
+
+    @BeforeEach
+    void setup() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/gzip", exchange -> respond(exchange, gzip(PAGE), true));
+        server.createContext("/flaky", exchange -> {
+            if (failures.getAndIncrement() < 2) {
+                exchange.sendResponseHeaders(503, -1);
+                exchange.close();
+                return;
+            }
+
+            respond(exchange, PAGE.getBytes(StandardCharsets.UTF_8), false);
+        });
+        server.createContext("/missing", exchange -> {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        });
+        server.createContext("/conditional", exchange -> {
+            if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+
+            exchange.getResponseHeaders().add("ETag", ETAG);
+            respond(exchange, PAGE.getBytes(StandardCharsets.UTF_8), false);
+        });
+        server.createContext("/slow", exchange -> {
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+
+            active.decrementAndGet();
+            respond(exchange, PAGE.getBytes(StandardCharsets.UTF_8), false);
+        });
+        server.start();
+
+        base = "http://127.0.0.1:" + server.getAddress().getPort();
+        crawler = new PageCrawler(GSON.fromJson(CONFIG, Config.class));
+    }
+
+    @AfterEach
+    void teardown() {
+        server.stop(0);
+    }
+
+    @Test
+    void decodesGzip() {
+        final Document document = crawler.get(base + "/gzip/index.html");
+
+        assertNotNull(document);
+        assertEquals(base + "/gzip/other.html", document.selectFirst("a").absUrl("href"));
+    }
+
+    @Test
+    void retriesServerErrors() {
+        assertNotNull(crawler.get(base + "/flaky"));
+        assertEquals(3, failures.get());
+    }
+
+    @Test
+    void skipsClientErrors() {
+        assertNull(crawler.get(base + "/missing"));
+    }
+
+    @Test
+    void revalidatesCachedPages() {
+        final Page page = crawler.fetchPage(base + "/conditional", null).join();
+
+        assertNotNull(page);
+        assertTrue(page.isModified());
+        assertEquals(ETAG, page.getEtag());
+
+        final Page revalidated = crawler.fetchPage(base + "/conditional", new PageCache.Entry(page.getEtag(), null, page.getHash(base))).join();
+
+        assertNotNull(revalidated);
+        assertFalse(revalidated.isModified());
+    }
+
+    @Test
+    void limitsConnectionsPerHost() {
+        final List<CompletableFuture<Document>> pages = IntStream.range(0, 8)
+                .mapToObj(i -> crawler.fetch(base + "/slow?" + i))
+                .collect(Collectors.toList());
+
+        pages.forEach(page -> assertNotNull(page.join()));
+        assertTrue(maxActive.get() <= 2, "at most 2 requests in flight, saw " + maxActive.get());
+    }
+
+    private static void respond(final HttpExchange exchange, final byte[] body, final boolean gzip) throws IOException {
+        if (gzip) {
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+        }
+
+        exchange.sendResponseHeaders(200, body.length);
+
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+
+    private static byte[] gzip(final String string) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (GZIPOutputStream output = new GZIPOutputStream(bytes)) {
+            output.write(string.getBytes(StandardCharsets.UTF_8));
+        }
+
+        return bytes.toByteArray();
+    }
+}
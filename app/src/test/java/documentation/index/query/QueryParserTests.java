@@ -0,0 +1,60 @@
+package documentation.index.query;
+
+import me.piggypiglet.docdex.documentation.index.query.ParsedQuery;
+import me.piggypiglet.docdex.documentation.index.query.QueryKind;
+import me.piggypiglet.docdex.documentation.index.query.QueryParser;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+public final class QueryParserTests {
+    private final QueryParser parser = new QueryParser();
+
+    @Test
+    void types() {
+        final ParsedQuery query = parser.parse("org.bukkit.entity.Entity");
+
+        assertEquals(QueryKind.TYPE, query.getKind());
+        assertTrue(query.isFqn());
+        assertEquals("org.bukkit.entity.entity", query.getQuery());
+        assertEquals("org.bukkit.entity", query.getOwner());
+        assertEquals("entity", query.getMember());
+    }
+
+    @Test
+    void urlRewrites() {
+        final ParsedQuery field = parser.parse("Material-STONE");
+        assertEquals(QueryKind.FIELD, field.getKind());
+        assertFalse(field.isFqn());
+        assertEquals("material%stone", field.getQuery());
+        assertEquals("material", field.getOwner());
+        assertEquals("stone", field.getMember());
+
+        final ParsedQuery method = parser.parse("Player~sendMessage(String%20message)");
+        assertEquals(QueryKind.METHOD, method.getKind());
+        assertEquals("player#sendmessage(string message)", method.getQuery());
+    }
+
+    @Test
+    void methods() {
+        final ParsedQuery query = parser.parse("org.bukkit.entity.Entity#teleport(Location, TeleportCause)");
+
+        assertEquals(QueryKind.METHOD, query.getKind());
+        assertTrue(query.isFqn());
+        assertEquals("org.bukkit.entity.entity#teleport(location,teleportcause)", query.getQuery());
+        assertEquals("org.bukkit.entity.entity#teleport", query.getName());
+        assertEquals("org.bukkit.entity.entity", query.getOwner());
+        assertEquals("teleport", query.getMember());
+        assertEquals("location,teleportcause", query.getParameters());
+        assertFalse(query.hasFullParameters());
+
+        assertTrue(parser.parse("entity#teleport(Location location").hasFullParameters());
+        assertEquals("location location", parser.parse("entity#teleport(Location location").getParameters());
+        assertTrue(parser.parse("entity#teleport").hasFullParameters());
+        assertSame(query, parser.parse("org.bukkit.entity.Entity#teleport(Location, TeleportCause)"));
+    }
+}
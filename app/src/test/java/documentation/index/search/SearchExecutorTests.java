@@ -0,0 +1,131 @@
+package documentation.index.search;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.GsonBuilder;
+import me.piggypiglet.docdex.config.Config;
+import me.piggypiglet.docdex.documentation.index.algorithm.Algorithm;
+import me.piggypiglet.docdex.documentation.index.algorithm.AlgorithmOption;
+import me.piggypiglet.docdex.documentation.index.ngram.NGramIndex;
+import me.piggypiglet.docdex.documentation.index.search.SearchExecutor;
+import me.piggypiglet.docdex.documentation.index.utils.StreamUtils;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.function.ToIntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+public final class SearchExecutorTests {
+    private static final String[] OWNERS = {
+            "player", "entity", "livingentity", "world", "block", "itemstack", "inventory", "server", "chunk", "location",
+            "material", "biome", "scoreboard", "team", "vehicle", "minecart", "projectile", "arrow", "villager", "sign"
+    };
+    private static final String[] VERBS = {"get", "set", "is", "has", "add", "remove", "can", "update", "play", "send"};
+    private static final String[] NOUNS = {
+            "health", "name", "location", "velocity", "passenger", "inventory", "type", "data", "state", "item",
+            "message", "title", "sound", "effect", "level", "experience", "display", "custom", "max", "metadata"
+    };
+    private static final int[] LIMITS = {1, 5, 20};
+
+    private final SearchExecutor search = new SearchExecutor(new GsonBuilder()
+            .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+            .create()
+            .fromJson("{\"index\": {}}", Config.class));
+
+    @Test
+    void prunedRankingMatchesFullScan() {
+        final Random random = new Random(0);
+        final Set<String> corpus = corpus(random);
+        final NGramIndex grams = new NGramIndex(corpus);
+
+        for (final String query : queries(random, corpus)) {
+            for (final Algorithm algorithm : Algorithm.values()) {
+                for (final AlgorithmOption option : AlgorithmOption.values()) {
+                    for (final int limit : LIMITS) {
+                        assertEquals(StreamUtils.topByAlgorithm(corpus, query, algorithm, option, limit),
+                                search.topByAlgorithm(corpus, grams, query, algorithm, option, limit),
+                                () -> algorithm + " " + option + " " + limit + " " + query);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void bestNeverBeatsTheScore() {
+        final Random random = new Random(1);
+        final Set<String> corpus = corpus(random);
+        final NGramIndex grams = new NGramIndex(corpus);
+
+        for (final String query : queries(random, corpus).subList(0, 20)) {
+            final ToIntFunction<String> edits = grams.minimumEdits(query);
+
+            for (final String string : corpus) {
+                for (final Algorithm algorithm : Algorithm.values()) {
+                    for (final AlgorithmOption option : AlgorithmOption.values()) {
+                        assertTrue(algorithm.best(query, string, edits.applyAsInt(string), option) <= algorithm.calculate(query, string, option),
+                                () -> algorithm + " " + option + " " + query + " " + string);
+                    }
+                }
+            }
+        }
+    }
+
+    @NotNull
+    private static Set<String> corpus(@NotNull final Random random) {
+        final Set<String> corpus = new LinkedHashSet<>();
+
+        while (corpus.size() < 3000) {
+            final String owner = pick(random, OWNERS);
+            final String method = pick(random, VERBS) + pick(random, NOUNS) + (random.nextBoolean() ? "" : pick(random, NOUNS));
+
+            corpus.add(random.nextInt(4) == 0 ? "org.bukkit." + owner + '#' + method : owner + '#' + method);
+        }
+
+        return corpus;
+    }
+
+    // typos & truncations of names in the corpus, plus some unrelated strings
+    @NotNull
+    private static List<String> queries(@NotNull final Random random, @NotNull final Set<String> corpus) {
+        final List<String> names = new ArrayList<>(corpus);
+        final List<String> queries = new ArrayList<>();
+
+        for (int i = 0; i < 60; ++i) {
+            final StringBuilder query = new StringBuilder(names.get(random.nextInt(names.size())));
+
+            switch (i % 4) {
+                case 0:
+                    query.deleteCharAt(random.nextInt(query.length()));
+                    break;
+
+                case 1:
+                    query.setCharAt(random.nextInt(query.length()), (char) ('a' + random.nextInt(26)));
+                    break;
+
+                case 2:
+                    query.setLength(Math.max(1, query.length() / 2));
+                    break;
+
+                default:
+                    query.setLength(0);
+                    query.append(pick(random, NOUNS)).append(random.nextInt(100));
+                    break;
+            }
+
+            queries.add(query.toString());
+        }
+
+        return queries;
+    }
+
+    @NotNull
+    private static String pick(@NotNull final Random random, @NotNull final String[] strings) {
+        return strings[random.nextInt(strings.length)];
+    }
+}
@@ -0,0 +1,101 @@
+package documentation.index.snapshot;
+
+import documentation.index.TestObjects;
+import me.piggypiglet.docdex.documentation.index.objects.DocumentedObjectKey;
+import me.piggypiglet.docdex.documentation.index.snapshot.SnapshotFormat;
+import me.piggypiglet.docdex.documentation.index.snapshot.SnapshotReader;
+import me.piggypiglet.docdex.documentation.index.snapshot.SnapshotWriter;
+import me.piggypiglet.docdex.documentation.objects.DocumentedObject;
+import me.piggypiglet.docdex.documentation.objects.DocumentedTypes;
+import me.piggypiglet.docdex.documentation.objects.detail.field.DocumentedFieldBuilder;
+import me.piggypiglet.docdex.documentation.objects.detail.method.DocumentedMethodBuilder;
+import me.piggypiglet.docdex.documentation.objects.type.DocumentedTypeBuilder;
+import me.piggypiglet.docdex.documentation.objects.type.TypeMetadata;
+import me.piggypiglet.docdex.documentation.utils.DataUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+public final class SnapshotTests {
+    private static final DocumentedObject TYPE = new DocumentedTypeBuilder()
+            .type(DocumentedTypes.INTERFACE)
+            .packaj("org.bukkit.entity")
+            .name("Entity")
+            .description("<p>Represents a base entity in the world</p>")
+            .strippedDescription("Represents a base entity in the world")
+            .modifiers("public", "interface")
+            .superInterfaces("org.bukkit.metadata.Metadatable", "org.bukkit.command.CommandSender")
+            .subInterfaces("org.bukkit.entity.LivingEntity")
+            .build();
+    private static final DocumentedObject METHOD = new DocumentedMethodBuilder()
+            .type(DocumentedTypes.METHOD)
+            .packaj("org.bukkit.entity")
+            .name("teleport")
+            .deprecated(true)
+            .deprecationMessage("sometimes \uD83D\uDE80")
+            .annotations("@NotNull")
+            .modifiers("boolean")
+            .owner("org.bukkit.entity.Entity")
+            .returns("boolean")
+            .returnsDescription("true if the teleport was successful")
+            .parameters("Location location", "PlayerTeleportEvent$TeleportCause cause")
+            .parameterDescriptions("location", "New location to teleport this entity to")
+            .parameterDescriptions("cause", "The cause of this teleportation")
+            .throwing("IllegalArgumentException", "if the location is null")
+            .build();
+    private static final DocumentedObject FIELD = new DocumentedFieldBuilder()
+            .type(DocumentedTypes.FIELD)
+            .packaj("org.bukkit.entity")
+            .name("MAX_HEALTH")
+            .owner("org.bukkit.entity.Entity")
+            .returns("double")
+            .build();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void roundTrip() throws IOException {
+        ((TypeMetadata) TYPE.getMetadata()).getMethods().add("org.bukkit.entity.entity#teleport");
+
+        final Map<DocumentedObjectKey, DocumentedObject> objects = new HashMap<>();
+        objects.put(new DocumentedObjectKey("entity", "org.bukkit.entity.entity", TestObjects.NO_PARAMETERS), TYPE);
+        objects.put(new DocumentedObjectKey("entity#teleport", "org.bukkit.entity.entity#teleport", DataUtils.getParams(METHOD)), METHOD);
+        objects.put(new DocumentedObjectKey("livingentity#teleport", "org.bukkit.entity.livingentity#teleport", DataUtils.getParams(METHOD)), METHOD);
+        objects.put(new DocumentedObjectKey("max_health", "org.bukkit.entity.entity%max_health", TestObjects.NO_PARAMETERS), FIELD);
+
+        final Path file = directory.resolve("bukkit.dex");
+        SnapshotWriter.write(file, objects);
+
+        assertTrue(SnapshotFormat.isReadable(file));
+
+        final Map<DocumentedObjectKey, DocumentedObject> read = SnapshotReader.read(file);
+        assertEquals(objects, read);
+
+        // inherited keys point at one object, and should still share it after loading
+        final DocumentedObject teleport = read.get(new DocumentedObjectKey("entity#teleport", "org.bukkit.entity.entity#teleport", DataUtils.getParams(METHOD)));
+        final DocumentedObject inherited = read.get(new DocumentedObjectKey("livingentity#teleport", "org.bukkit.entity.livingentity#teleport", DataUtils.getParams(METHOD)));
+        assertSame(teleport, inherited);
+    }
+
+    @Test
+    void rejectsForeignFiles() throws IOException {
+        final Path file = directory.resolve("bukkit.dex");
+        Files.writeString(file, "{\"entity;org.bukkit.entity.entity; ; ; \": {}}");
+
+        assertFalse(SnapshotFormat.isReadable(file));
+        assertFalse(SnapshotFormat.isReadable(directory.resolve("missing.dex")));
+        assertThrows(IOException.class, () -> SnapshotReader.read(file));
+    }
+}
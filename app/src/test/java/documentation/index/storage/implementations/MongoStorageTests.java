@@ -0,0 +1,200 @@
+package documentation.index.storage.implementations;
+
+import com.mongodb.MongoClient;
+import com.mongodb.MongoClientOptions;
+import com.mongodb.MongoException;
+import com.mongodb.ServerAddress;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.Filters;
+import me.piggypiglet.docdex.config.Javadoc;
+import me.piggypiglet.docdex.db.codec.*;
+import me.piggypiglet.docdex.db.objects.MongoDocumentedObject;
+import me.piggypiglet.docdex.documentation.index.objects.DocumentedObjectKey;
+import me.piggypiglet.docdex.documentation.index.storage.implementations.MongoStorage;
+import me.piggypiglet.docdex.documentation.index.update.IndexDelta;
+import me.piggypiglet.docdex.documentation.objects.DocumentedObject;
+import me.piggypiglet.docdex.documentation.objects.MongoDocumentedObjectFields;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static documentation.index.TestObjects.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+// needs a mongod on localhost:27017, skipped otherwise
+public final class MongoStorageTests {
+    private static final String COLLECTION = "mongo-storage-tests";
+    private static final Javadoc JAVADOC = new Javadoc(Set.of(COLLECTION), "https://example.com/", "https://example.com/");
+    private static final CodecRegistry CODECS = CodecRegistries.fromRegistries(
+            MongoClient.getDefaultCodecRegistry(),
+            CodecRegistries.fromCodecs(new DocumentedObjectCodec(new DocumentedObjectBodyCodec(
+                    new TypeMetadataCodec(), new MethodMetadataCodec(), new FieldMetadataCodec()
+            )))
+    );
+
+    private static final DocumentedObject ENTITY = type("org.bukkit.entity", "Entity");
+    private static final DocumentedObject PLAYER = type("org.bukkit.entity", "Player");
+    private static final DocumentedObject PLAYER_ENTITY = type("org.bukkit.entity", "Player", "org.bukkit.entity.Entity");
+    private static final DocumentedObject TELEPORT = method("org.bukkit.entity", "Entity", "teleport", "Location location");
+    private static final DocumentedObject GET_HEALTH = method("org.bukkit.entity", "Entity", "getHealth");
+
+    private static MongoClient client;
+    private static MongoDatabase database;
+    private static boolean available = false;
+
+    @BeforeAll
+    static void connect() {
+        client = new MongoClient(new ServerAddress("localhost", 27017), MongoClientOptions.builder()
+                .serverSelectionTimeout(1000)
+                .build());
+        database = client.getDatabase("docdex-tests");
+
+        try {
+            database.runCommand(new Document("ping", 1));
+            available = true;
+        } catch (MongoException ignored) {}
+
+        assumeTrue(available, "No mongod on localhost:27017");
+    }
+
+    @AfterAll
+    static void disconnect() {
+        if (available) {
+            database.getCollection(COLLECTION).drop();
+        }
+
+        client.close();
+    }
+
+    @Test
+    void everyFieldIsIndexed() {
+        final MongoCollection<Document> collection = database.getCollection(COLLECTION);
+        collection.drop();
+        collection.insertMany(IntStream.range(0, 1_000)
+                .mapToObj(MongoStorageTests::document)
+                .collect(Collectors.toList()));
+
+        MongoStorage.createIndexes(collection);
+        // a second pass should find nothing missing
+        MongoStorage.createIndexes(collection);
+
+        for (final MongoDocumentedObjectFields field : MongoDocumentedObjectFields.values()) {
+            final BsonDocument filter = Filters.in(field.getName(), List.of(field.getName() + 42, field.getName() + 7))
+                    .toBsonDocument(Document.class, MongoClient.getDefaultCodecRegistry());
+            final Document plan = database.runCommand(new Document("explain", new Document("find", COLLECTION).append("filter", filter))
+                    .append("verbosity", "queryPlanner"));
+            final String winningPlan = plan.get("queryPlanner", Document.class).get("winningPlan", Document.class).toJson();
+
+            assertTrue(winningPlan.contains("IXSCAN"), field.getName() + " isn't using an index: " + winningPlan);
+            assertFalse(winningPlan.contains("COLLSCAN"), field.getName() + " is scanning the collection: " + winningPlan);
+        }
+    }
+
+    @Test
+    void updateUpsertsAndDeletes() {
+        database.getCollection(COLLECTION).drop();
+
+        final MongoStorage storage = new MongoStorage(database.withCodecRegistry(CODECS));
+        final Map<DocumentedObjectKey, DocumentedObject> previous = objects(ENTITY, PLAYER, TELEPORT);
+        final Map<DocumentedObjectKey, DocumentedObject> current = objects(ENTITY, PLAYER_ENTITY, GET_HEALTH);
+
+        storage.save(JAVADOC, previous);
+        storage.update(JAVADOC, current, IndexDelta.of(previous, current));
+
+        assertEquals(3, database.getCollection(COLLECTION).countDocuments());
+        assertEquals(Optional.of(ENTITY), getByIdentifier(storage, ENTITY));
+        assertEquals(Optional.of(PLAYER_ENTITY), getByIdentifier(storage, PLAYER));
+        assertEquals(Optional.of(GET_HEALTH), getByIdentifier(storage, GET_HEALTH));
+        assertEquals(Optional.empty(), getByIdentifier(storage, TELEPORT));
+    }
+
+    @Test
+    void getAllReturnsEachValueOnce() {
+        final MongoCollection<MongoDocumentedObject> collection = database.withCodecRegistry(CODECS)
+                .getCollection(COLLECTION, MongoDocumentedObject.class);
+        final DocumentedObject otherEntity = type("org.other", "Entity");
+        collection.drop();
+        // both are named entity, the first inserted should win like find(eq).first() did
+        collection.insertMany(List.of(
+                MongoDocumentedObject.of(key(ENTITY), ENTITY),
+                MongoDocumentedObject.of(key(otherEntity), otherEntity),
+                MongoDocumentedObject.of(key(PLAYER), PLAYER)
+        ));
+        MongoStorage.createIndexes(collection);
+
+        final MongoStorage storage = new MongoStorage(database.withCodecRegistry(CODECS));
+        final Map<String, DocumentedObject> results = storage.getAll(JAVADOC, MongoDocumentedObjectFields.NAME,
+                List.of("entity", "player", "entity", "missing"));
+
+        assertEquals(Map.of("entity", ENTITY, "player", PLAYER), results);
+        assertEquals(storage.get(JAVADOC, MongoDocumentedObjectFields.NAME, "entity"), Optional.of(results.get("entity")));
+        assertEquals(Map.of(), storage.getAll(JAVADOC, MongoDocumentedObjectFields.NAME, List.of()));
+    }
+
+    @Test
+    void inheritedCopiesAreSkipped() {
+        final MongoCollection<MongoDocumentedObject> collection = database.withCodecRegistry(CODECS)
+                .getCollection(COLLECTION, MongoDocumentedObject.class);
+        final DocumentedObjectKey heirKey = new DocumentedObjectKey("player#gethealth", "org.bukkit.entity.player#gethealth",
+                key(GET_HEALTH).getParams());
+        collection.drop();
+        // inserted first, so it would win if it weren't filtered
+        collection.insertMany(List.of(
+                MongoDocumentedObject.of(heirKey, GET_HEALTH),
+                MongoDocumentedObject.of(key(GET_HEALTH), GET_HEALTH)
+        ));
+        MongoStorage.createIndexes(collection);
+
+        final MongoStorage storage = new MongoStorage(database.withCodecRegistry(CODECS));
+
+        assertEquals(Optional.empty(), storage.get(JAVADOC, MongoDocumentedObjectFields.FQN, heirKey.getFqn()));
+        assertEquals(Optional.of(GET_HEALTH), storage.get(JAVADOC, MongoDocumentedObjectFields.FQN, key(GET_HEALTH).getFqn()));
+        assertEquals(Map.of(key(GET_HEALTH).getFqn(), GET_HEALTH), storage.getAll(JAVADOC, MongoDocumentedObjectFields.FQN,
+                List.of(heirKey.getFqn(), key(GET_HEALTH).getFqn())));
+    }
+
+    @NotNull
+    private static Optional<DocumentedObject> getByIdentifier(@NotNull final MongoStorage storage, @NotNull final DocumentedObject object) {
+        return storage.get(JAVADOC, MongoDocumentedObjectFields.IDENTIFIER, MongoDocumentedObject.of(key(object), object).getIdentifier());
+    }
+
+    @NotNull
+    private static Map<DocumentedObjectKey, DocumentedObject> objects(@NotNull final DocumentedObject... objects) {
+        final Map<DocumentedObjectKey, DocumentedObject> map = new HashMap<>();
+
+        for (final DocumentedObject object : objects) {
+            put(map, object);
+        }
+
+        return map;
+    }
+
+    private static Document document(final int i) {
+        final Document document = new Document();
+
+        for (final MongoDocumentedObjectFields field : MongoDocumentedObjectFields.values()) {
+            document.append(field.getName(), field.getName() + i);
+        }
+
+        return document;
+    }
+}
@@ -0,0 +1,54 @@
+package documentation.index.update;
+
+import me.piggypiglet.docdex.documentation.index.objects.DocumentedObjectKey;
+import me.piggypiglet.docdex.documentation.index.update.IndexDelta;
+import me.piggypiglet.docdex.documentation.objects.DocumentedObject;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static documentation.index.TestObjects.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+public final class IndexDeltaTests {
+    private static final DocumentedObject ENTITY = type("org.bukkit.entity", "Entity");
+    private static final DocumentedObject PLAYER = type("org.bukkit.entity", "Player");
+    private static final DocumentedObject PLAYER_ENTITY = type("org.bukkit.entity", "Player", "org.bukkit.entity.Entity");
+    private static final DocumentedObject TELEPORT = method("org.bukkit.entity", "Entity", "teleport", "Location location");
+    private static final DocumentedObject GET_HEALTH = method("org.bukkit.entity", "Entity", "getHealth");
+
+    @Test
+    void unchanged() {
+        final Map<DocumentedObjectKey, DocumentedObject> objects = objects(ENTITY, TELEPORT);
+        final IndexDelta delta = IndexDelta.of(objects, objects(ENTITY, TELEPORT));
+
+        assertTrue(delta.isEmpty());
+    }
+
+    @Test
+    void sortsEveryKey() {
+        final IndexDelta delta = IndexDelta.of(objects(ENTITY, PLAYER, TELEPORT), objects(ENTITY, PLAYER_ENTITY, GET_HEALTH));
+
+        assertFalse(delta.isEmpty());
+        assertEquals(Map.of(key(GET_HEALTH), GET_HEALTH), delta.getInserted());
+        assertEquals(Map.of(key(PLAYER), PLAYER_ENTITY), delta.getChanged());
+        assertEquals(Map.of(key(TELEPORT), TELEPORT), delta.getRemoved());
+    }
+
+    @NotNull
+    private static Map<DocumentedObjectKey, DocumentedObject> objects(@NotNull final DocumentedObject... objects) {
+        final Map<DocumentedObjectKey, DocumentedObject> map = new HashMap<>();
+
+        for (final DocumentedObject object : objects) {
+            put(map, object);
+        }
+
+        return map;
+    }
+}
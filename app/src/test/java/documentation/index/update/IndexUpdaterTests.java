@@ -0,0 +1,108 @@
+package documentation.index.update;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.GsonBuilder;
+import me.piggypiglet.docdex.config.Config;
+import me.piggypiglet.docdex.config.Javadoc;
+import me.piggypiglet.docdex.documentation.index.DocumentationIndex;
+import me.piggypiglet.docdex.documentation.index.algorithm.Algorithm;
+import me.piggypiglet.docdex.documentation.index.algorithm.AlgorithmOption;
+import me.piggypiglet.docdex.documentation.index.cache.QueryCache;
+import me.piggypiglet.docdex.documentation.index.objects.DocumentedObjectKey;
+import me.piggypiglet.docdex.documentation.index.population.implementations.local.LocalPopulator;
+import me.piggypiglet.docdex.documentation.index.query.QueryParser;
+import me.piggypiglet.docdex.documentation.index.search.SearchExecutor;
+import me.piggypiglet.docdex.documentation.index.storage.implementations.MemoryStorage;
+import me.piggypiglet.docdex.documentation.index.storage.implementations.MongoStorage;
+import me.piggypiglet.docdex.documentation.index.update.IndexUpdater;
+import me.piggypiglet.docdex.documentation.objects.DocumentedObject;
+import me.piggypiglet.docdex.documentation.objects.DocumentedObjectResult;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static documentation.index.TestObjects.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+public final class IndexUpdaterTests {
+    private static final String CONFIG = "{\"index\": {\"resident_objects\": true, \"snapshots\": false, " +
+            "\"cache\": {\"maximum_size\": 0}, \"crawl\": {\"cache\": false}}}";
+    private static final DocumentedObject OLD = type("pkg", "Old");
+    private static final QueryParser PARSER = new QueryParser();
+
+    @TempDir
+    Path site;
+
+    private Javadoc javadoc;
+    private DocumentationIndex index;
+    private IndexUpdater updater;
+
+    @BeforeEach
+    void setup() throws IOException {
+        final Config config = new GsonBuilder()
+                .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+                .create()
+                .fromJson(CONFIG, Config.class);
+        final MemoryStorage storage = new MemoryStorage(config);
+        final Map<DocumentedObjectKey, DocumentedObject> objects = new HashMap<>();
+        put(objects, OLD);
+
+        javadoc = new Javadoc(Set.of("local"), site.resolve("index.html").toUri().toString(), "https://example.com/local");
+        index = new DocumentationIndex(config, new MongoStorage(null), storage, new QueryCache(config), new SearchExecutor(config));
+        updater = new IndexUpdater(Set.of(new LocalPopulator(config)), Set.of(storage), index);
+
+        storage.save(javadoc, objects);
+        index.populate(javadoc, objects);
+
+        Files.writeString(site.resolve("index.html"), "<html><body><ul class=\"navList\">" +
+                "<li><a href=\"index-all.html\">Index</a></li></ul></body></html>");
+        Files.writeString(site.resolve("index-all.html"), "<html><body><div class=\"contentContainer\"><dl>" +
+                "<dt><a href=\"pkg/New.html\" title=\"class in pkg\">New</a></dt></dl></div></body></html>");
+        Files.createDirectories(site.resolve("pkg"));
+        Files.writeString(site.resolve("pkg/New.html"), "<html><body>" +
+                "<div class=\"header\"><div class=\"subTitle\">Package pkg</div><h2 title=\"Class New\" class=\"title\">Class New</h2></div>" +
+                "<div class=\"contentContainer\"><div class=\"description\"><ul class=\"blockList\"><li class=\"blockList\">" +
+                "<pre>public class <span class=\"typeNameLabel\">New</span>\nextends java.lang.Object</pre>" +
+                "<div class=\"block\">A new type</div></li></ul></div></div></body></html>");
+    }
+
+    @Test
+    void servesUpdatedObjects() {
+        updater.update(javadoc).join();
+
+        final List<DocumentedObjectResult> results = get("new");
+
+        assertFalse(results.isEmpty());
+        assertEquals("New", results.get(0).getObject().getName());
+        assertTrue(get("old").stream().noneMatch(result -> result.getObject().equals(OLD)));
+    }
+
+    @Test
+    void emptyCrawlKeepsIndex() throws IOException {
+        Files.delete(site.resolve("index.html"));
+        updater.update(javadoc).join();
+
+        final List<DocumentedObjectResult> results = get("old");
+
+        assertEquals(1, results.size());
+        assertEquals(OLD, results.get(0).getObject());
+    }
+
+    @NotNull
+    private List<DocumentedObjectResult> get(@NotNull final String query) {
+        return index.get(javadoc, PARSER.parse(query), Algorithm.JARO_WINKLER, AlgorithmOption.SIMILARITY, 5);
+    }
+}
@@ -0,0 +1,69 @@
+package documentation.index;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import me.piggypiglet.docdex.config.Config;
+import me.piggypiglet.docdex.documentation.index.DocumentationIndex;
+import me.piggypiglet.docdex.documentation.index.algorithm.Algorithm;
+import me.piggypiglet.docdex.documentation.index.algorithm.AlgorithmOption;
+import me.piggypiglet.docdex.documentation.index.cache.QueryCache;
+import me.piggypiglet.docdex.documentation.index.objects.DocumentedObjectKey;
+import me.piggypiglet.docdex.documentation.index.query.ParsedQuery;
+import me.piggypiglet.docdex.documentation.index.query.QueryParser;
+import me.piggypiglet.docdex.documentation.index.search.SearchExecutor;
+import me.piggypiglet.docdex.documentation.index.storage.implementations.MemoryStorage;
+import me.piggypiglet.docdex.documentation.index.storage.implementations.MongoStorage;
+import me.piggypiglet.docdex.documentation.objects.DocumentedObject;
+import me.piggypiglet.docdex.documentation.objects.DocumentedObjectResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DocumentationIndexBenchmarks {
+    // resident objects so storage isn't what's measured, and a zero sized cache so every call searches
+    private static final String CONFIG = "{\"index\": {\"resident_objects\": true, \"snapshots\": false, \"cache\": {\"maximum_size\": 0}}}";
+    private static final Gson GSON = new GsonBuilder()
+            .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+            .create();
+
+    @Param({
+            "playerevent21", "livingstate", "org.synthetic.block.blocktype41",
+            "entity6%location_0", "org.synthetic.entity.abstract0%name_1",
+            "abstract0#getlocation", "itemmanager28#sethealth(int)", "org.synthetic.world.world5#addtarget(string name0)"
+    })
+    public String query;
+
+    @Param({"JARO_WINKLER", "NORMALIZED_LEVENSHTEIN", "SIMPLE_RATIO_LEVENSHTEIN"})
+    public Algorithm algorithm;
+
+    private DocumentationIndex index;
+    private ParsedQuery parsedQuery;
+
+    @Setup
+    public void setup() {
+        final Config config = GSON.fromJson(CONFIG, Config.class);
+        final MemoryStorage storage = new MemoryStorage(config);
+        final Map<DocumentedObjectKey, DocumentedObject> objects = SyntheticJavadoc.generate();
+
+        // mongo is never touched with resident objects on
+        index = new DocumentationIndex(config, new MongoStorage(null), storage, new QueryCache(config), new SearchExecutor(config));
+        storage.save(SyntheticJavadoc.JAVADOC, objects);
+        index.populate(SyntheticJavadoc.JAVADOC, objects);
+        parsedQuery = new QueryParser().parse(query);
+    }
+
+    @Benchmark
+    public List<DocumentedObjectResult> get() {
+        return index.get(SyntheticJavadoc.JAVADOC, parsedQuery, algorithm, AlgorithmOption.SIMILARITY, 5);
+    }
+}
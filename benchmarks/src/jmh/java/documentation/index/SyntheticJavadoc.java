@@ -0,0 +1,135 @@
+package documentation.index;
+
+import me.piggypiglet.docdex.config.Javadoc;
+import me.piggypiglet.docdex.documentation.index.objects.DocumentedObjectKey;
+import me.piggypiglet.docdex.documentation.objects.DocumentedObject;
+import me.piggypiglet.docdex.documentation.objects.DocumentedTypes;
+import me.piggypiglet.docdex.documentation.objects.detail.field.DocumentedFieldBuilder;
+import me.piggypiglet.docdex.documentation.objects.detail.method.DocumentedMethodBuilder;
+import me.piggypiglet.docdex.documentation.objects.type.DocumentedTypeBuilder;
+import me.piggypiglet.docdex.documentation.utils.DataUtils;
+import me.piggypiglet.docdex.documentation.utils.ParameterTypes;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+// roughly the shape of a large api like bukkit: a few thousand types, tens of thousands of methods, shallow hierarchies
+public final class SyntheticJavadoc {
+    public static final Javadoc JAVADOC = new Javadoc(Set.of("synthetic"), "https://example.com/", "https://example.com/");
+    public static final int TYPES = 2_500;
+    public static final int HIERARCHY_DEPTH = 4;
+
+    private static final String[] PACKAGES = {
+            "entity", "block", "inventory", "event.player", "event.block", "command", "scheduler", "world", "plugin", "util"
+    };
+    private static final String[] PREFIXES = {
+            "Abstract", "Living", "Player", "Block", "Item", "World", "Entity", "Plugin", "Command", "Inventory",
+            "Server", "Chunk", "Material", "Potion", "Boss", "Sound", "Particle", "Vehicle", "Projectile", "Metadata"
+    };
+    private static final String[] SUFFIXES = {
+            "", "Event", "Manager", "State", "Data", "Type", "Meta", "Handler", "Executor", "Provider", "Factory", "View"
+    };
+    private static final String[] VERBS = {"get", "set", "is", "has", "add", "remove", "update", "create"};
+    private static final String[] NOUNS = {
+            "Location", "Health", "Name", "Owner", "Target", "Velocity", "World", "Item", "Type", "Data", "Passenger", "Listener"
+    };
+    private static final String[] PARAMETERS = {
+            "int amount", "double value", "String name", "Location location", "ItemStack item", "boolean flag",
+            "Player player", "UUID uuid", "Entity entity", "Collection<String> names", "Material material", "float speed"
+    };
+    private static final Map<ParameterTypes, String> DEFAULT_PARAMETERS = Arrays.stream(ParameterTypes.values())
+            .collect(Collectors.toMap(parameterType -> parameterType, parameterType -> ""));
+
+    private SyntheticJavadoc() {
+        throw new AssertionError("This class cannot be instantiated.");
+    }
+
+    @NotNull
+    public static Map<DocumentedObjectKey, DocumentedObject> generate() {
+        final Random random = new Random(0);
+        final Map<DocumentedObjectKey, DocumentedObject> objects = new HashMap<>();
+
+        for (int i = 0; i < TYPES; ++i) {
+            final String packaj = getPackage(i);
+            final String name = getTypeName(i);
+            final DocumentedTypeBuilder builder = new DocumentedTypeBuilder();
+
+            // chains of types each extending the one before, the crawler reads the same from a type's subclasses
+            if ((i + 1) % HIERARCHY_DEPTH != 0 && i + 1 < TYPES) {
+                builder.subClasses(getPackage(i + 1) + '.' + getTypeName(i + 1));
+            }
+
+            final DocumentedObject type = builder
+                    .type(i % 7 == 0 ? DocumentedTypes.INTERFACE : DocumentedTypes.CLASS)
+                    .packaj(packaj)
+                    .name(name)
+                    .description("<p>Synthetic type " + name + "</p>")
+                    .strippedDescription("Synthetic type " + name)
+                    .modifiers("public")
+                    .build();
+            put(objects, type, DEFAULT_PARAMETERS);
+
+            for (int j = 0; j < 12; ++j) {
+                final String methodName = VERBS[random.nextInt(VERBS.length)] + NOUNS[random.nextInt(NOUNS.length)];
+                // a handful of overloads per name, like real apis
+                final int overloads = 1 + random.nextInt(3);
+
+                for (int k = 0; k < overloads; ++k) {
+                    final List<String> parameters = new ArrayList<>();
+
+                    for (int l = 0; l < k + random.nextInt(2); ++l) {
+                        parameters.add(PARAMETERS[random.nextInt(PARAMETERS.length)] + l);
+                    }
+
+                    final DocumentedObject method = new DocumentedMethodBuilder()
+                            .type(DocumentedTypes.METHOD)
+                            .packaj(packaj)
+                            .name(methodName)
+                            .owner(name)
+                            .returns("void")
+                            .parameters(parameters)
+                            .build();
+                    put(objects, method, DataUtils.getParams(method));
+                }
+            }
+
+            for (int j = 0; j < 4; ++j) {
+                final String fieldName = (NOUNS[random.nextInt(NOUNS.length)] + '_' + j).toUpperCase();
+
+                put(objects, new DocumentedFieldBuilder()
+                        .type(DocumentedTypes.FIELD)
+                        .packaj(packaj)
+                        .name(fieldName)
+                        .owner(name)
+                        .returns("int")
+                        .build(), DEFAULT_PARAMETERS);
+            }
+        }
+
+        return objects;
+    }
+
+    @NotNull
+    private static String getPackage(final int index) {
+        return "org.synthetic." + PACKAGES[index % PACKAGES.length];
+    }
+
+    @NotNull
+    public static String getTypeName(final int index) {
+        return PREFIXES[index % PREFIXES.length] + SUFFIXES[(index / PREFIXES.length) % SUFFIXES.length] + index;
+    }
+
+    private static void put(@NotNull final Map<DocumentedObjectKey, DocumentedObject> objects, @NotNull final DocumentedObject object,
+                            @NotNull final Map<ParameterTypes, String> parameters) {
+        objects.putIfAbsent(new DocumentedObjectKey(
+                DataUtils.getName(object).toLowerCase(),
+                DataUtils.getFqn(object).toLowerCase(),
+                parameters
+        ), object);
+    }
+}
@@ -0,0 +1,37 @@
+package documentation.index.algorithm;
+
+import me.piggypiglet.docdex.documentation.index.algorithm.Algorithm;
+import me.piggypiglet.docdex.documentation.index.algorithm.AlgorithmOption;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AlgorithmBenchmarks {
+    @Param
+    public Algorithm algorithm;
+
+    @Param
+    public AlgorithmOption option;
+
+    @Param({"playerevent", "org.synthetic.entity.livingentity#teleport(location,teleportcause)"})
+    public String query;
+
+    private String candidate;
+
+    @Setup
+    public void setup() {
+        candidate = query.length() > 20 ? "org.synthetic.entity.livingentity#setvelocity(vector)" : "playerinteractevent";
+    }
+
+    @Benchmark
+    public double calculate() {
+        return algorithm.calculate(query, candidate, option);
+    }
+}
@@ -0,0 +1,51 @@
+package documentation.index.utils;
+
+import documentation.index.SyntheticJavadoc;
+import me.piggypiglet.docdex.documentation.index.algorithm.Algorithm;
+import me.piggypiglet.docdex.documentation.index.algorithm.AlgorithmOption;
+import me.piggypiglet.docdex.documentation.index.utils.StreamUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StreamUtilsBenchmarks {
+    private static final String QUERY = "playerevnt";
+
+    @Param
+    public Algorithm algorithm;
+
+    @Param({"512", "2500"})
+    public int size;
+
+    private List<String> names;
+
+    @Setup
+    public void setup() {
+        names = IntStream.range(0, size)
+                .mapToObj(SyntheticJavadoc::getTypeName)
+                .map(String::toLowerCase)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<String> orderByAlgorithm() {
+        return StreamUtils.orderByAlgorithm(names.stream(), QUERY, algorithm, AlgorithmOption.SIMILARITY)
+                .limit(5)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<String> topByAlgorithm() {
+        return StreamUtils.topByAlgorithm(names, QUERY, algorithm, AlgorithmOption.SIMILARITY, 5);
+    }
+}
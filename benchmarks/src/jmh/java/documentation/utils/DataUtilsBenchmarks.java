@@ -0,0 +1,34 @@
+package documentation.utils;
+
+import me.piggypiglet.docdex.documentation.objects.DocumentedObject;
+import me.piggypiglet.docdex.documentation.objects.DocumentedTypes;
+import me.piggypiglet.docdex.documentation.objects.detail.method.DocumentedMethodBuilder;
+import me.piggypiglet.docdex.documentation.utils.DataUtils;
+import me.piggypiglet.docdex.documentation.utils.ParameterTypes;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DataUtilsBenchmarks {
+    private static final DocumentedObject METHOD = new DocumentedMethodBuilder()
+            .type(DocumentedTypes.METHOD)
+            .packaj("org.bukkit.entity")
+            .name("teleport")
+            .owner("Entity")
+            .returns("boolean")
+            .parameters("Location location", "PlayerTeleportEvent$TeleportCause cause", "java.util.Map<String, Object> options")
+            .build();
+
+    @Benchmark
+    public Map<ParameterTypes, String> getParams() {
+        return DataUtils.getParams(METHOD);
+    }
+}
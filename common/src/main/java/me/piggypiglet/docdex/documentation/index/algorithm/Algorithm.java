@@ -1,9 +1,8 @@
 package me.piggypiglet.docdex.documentation.index.algorithm;
 
-import info.debatty.java.stringsimilarity.JaroWinkler;
-import info.debatty.java.stringsimilarity.NormalizedLevenshtein;
-import info.debatty.java.stringsimilarity.interfaces.StringDistance;
-import me.xdrop.fuzzywuzzy.FuzzySearch;
+import me.piggypiglet.docdex.documentation.index.algorithm.implementations.JaroWinklerAlgorithm;
+import me.piggypiglet.docdex.documentation.index.algorithm.implementations.NormalizedLevenshteinAlgorithm;
+import me.piggypiglet.docdex.documentation.index.algorithm.implementations.SimpleRatioAlgorithm;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Unmodifiable;
 
@@ -16,12 +15,9 @@ import java.util.stream.Collectors;
 // https://www.piggypiglet.me
 // ------------------------------
 public enum Algorithm implements AlgorithmFunction {
-    SIMPLE_RATIO_LEVENSHTEIN((AlgorithmFunctionWithoutOption) (string1, string2) -> FuzzySearch.ratio(string1, string2) * -1),
-//    PARTIAL_RATIO_LEVENSHTEIN((AlgorithmFunctionWithoutOption) FuzzySearch::partialRatio),
-//    TOKEN_SORT_RATIO_LEVENSHTEIN((AlgorithmFunctionWithoutOption) FuzzySearch::tokenSortRatio),
-//    TOKEN_SET_RATIO_LEVENSHTEIN((AlgorithmFunctionWithoutOption) FuzzySearch::tokenSetRatio),
-    NORMALIZED_LEVENSHTEIN(new NormalizedLevenshtein()),
-    JARO_WINKLER(new JaroWinkler());
+    SIMPLE_RATIO_LEVENSHTEIN(new SimpleRatioAlgorithm()),
+    NORMALIZED_LEVENSHTEIN(new NormalizedLevenshteinAlgorithm()),
+    JARO_WINKLER(new JaroWinklerAlgorithm());
 
     @Unmodifiable
     public static final Map<String, Algorithm> NAMES = Arrays.stream(values())
@@ -33,17 +29,21 @@ public enum Algorithm implements AlgorithmFunction {
         this.function = function;
     }
 
-    Algorithm(@NotNull final AlgorithmFunctionWithoutOption function) {
-        this((string1, string2, algorithmOption) -> function.calculate(string1, string2));
+    @Override
+    public double calculate(@NotNull final String string1, @NotNull final String string2,
+                            @NotNull final AlgorithmOption algorithmOption) {
+        return function.calculate(string1, string2, algorithmOption);
     }
 
-    Algorithm(@NotNull final StringDistance object) {
-        this(new DebattyAlgorithm(object));
+    @Override
+    public double calculate(@NotNull final String string1, @NotNull final String string2,
+                            @NotNull final AlgorithmOption algorithmOption, final double bound) {
+        return function.calculate(string1, string2, algorithmOption, bound);
     }
 
     @Override
-    public double calculate(@NotNull final String string1, @NotNull final String string2,
-                            @NotNull final AlgorithmOption algorithmOption) {
-        return function.calculate(string1, string2, algorithmOption);
+    public double best(@NotNull final String string1, @NotNull final String string2, final int edits,
+                       @NotNull final AlgorithmOption algorithmOption) {
+        return function.best(string1, string2, edits, algorithmOption);
     }
 }
@@ -10,4 +10,17 @@ import org.jetbrains.annotations.NotNull;
 public interface AlgorithmFunction {
     double calculate(@NotNull final String string1, @NotNull final String string2,
                      @NotNull final AlgorithmOption algorithmOption);
+
+    // scores that would be worse than the bound may come back as any score that's also worse than it,
+    // which lets implementations give up early on candidates that can't make the cut
+    default double calculate(@NotNull final String string1, @NotNull final String string2,
+                             @NotNull final AlgorithmOption algorithmOption, final double bound) {
+        return calculate(string1, string2, algorithmOption);
+    }
+
+    // the best score possible for strings at least edits apart, negative infinity if unknown
+    default double best(@NotNull final String string1, @NotNull final String string2, final int edits,
+                        @NotNull final AlgorithmOption algorithmOption) {
+        return Double.NEGATIVE_INFINITY;
+    }
 }
@@ -0,0 +1,81 @@
+package me.piggypiglet.docdex.documentation.index.algorithm.implementations;
+
+import org.jetbrains.annotations.NotNull;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+final class EditDistance {
+    // two dp rows per thread, only ever replaced when a longer string than any before comes through
+    private static final ThreadLocal<int[][]> ROWS = ThreadLocal.withInitial(() -> new int[][] {new int[64], new int[64]});
+
+    private EditDistance() {
+        throw new AssertionError("This class cannot be instantiated.");
+    }
+
+    static int calculate(@NotNull final String string1, @NotNull final String string2, final int substitutionCost) {
+        return calculate(string1, string2, substitutionCost, Integer.MAX_VALUE);
+    }
+
+    // levenshtein with a configurable substitution cost, 2 makes it an insert/delete only distance.
+    // exact up to max, past it only a lower bound that's still above max comes back.
+    static int calculate(@NotNull final String string1, @NotNull final String string2, final int substitutionCost,
+                         final int max) {
+        if (string1.equals(string2)) {
+            return 0;
+        }
+
+        final int lengthDifference = Math.abs(string1.length() - string2.length());
+
+        if (lengthDifference > max) {
+            return lengthDifference;
+        }
+
+        // the shorter string is the row, keeps scratch space to the smaller of the two
+        final String rows = string1.length() < string2.length() ? string1 : string2;
+        final String columns = rows == string1 ? string2 : string1;
+        final int rowLength = rows.length();
+
+        if (rowLength == 0) {
+            return columns.length();
+        }
+
+        final int[][] scratch = ROWS.get();
+
+        if (scratch[0].length <= rowLength) {
+            scratch[0] = new int[rowLength * 2];
+            scratch[1] = new int[rowLength * 2];
+        }
+
+        int[] previous = scratch[0];
+        int[] current = scratch[1];
+
+        for (int i = 0; i <= rowLength; ++i) {
+            previous[i] = i;
+        }
+
+        for (int i = 0; i < columns.length(); ++i) {
+            final char column = columns.charAt(i);
+            current[0] = i + 1;
+            int minimum = current[0];
+
+            for (int j = 0; j < rowLength; ++j) {
+                final int substitution = previous[j] + (rows.charAt(j) == column ? 0 : substitutionCost);
+                current[j + 1] = Math.min(Math.min(current[j], previous[j + 1]) + 1, substitution);
+                minimum = Math.min(minimum, current[j + 1]);
+            }
+
+            // every path to the final cell crosses this row, so nothing can come in under its minimum
+            if (minimum > max) {
+                return minimum;
+            }
+
+            final int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+
+        return previous[rowLength];
+    }
+}
@@ -0,0 +1,126 @@
+package me.piggypiglet.docdex.documentation.index.algorithm.implementations;
+
+import me.piggypiglet.docdex.documentation.index.algorithm.AlgorithmFunction;
+import me.piggypiglet.docdex.documentation.index.algorithm.AlgorithmOption;
+import org.jetbrains.annotations.NotNull;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+// scores identically to debatty's JaroWinkler, float arithmetic included
+public final class JaroWinklerAlgorithm implements AlgorithmFunction {
+    private static final double THRESHOLD = 0.7;
+    private static final double COEFFICIENT = 0.1;
+    // float rounding in similarity
+    private static final double SLACK = 1e-6;
+    private static final ThreadLocal<boolean[][]> FLAGS = ThreadLocal.withInitial(() -> new boolean[][] {new boolean[64], new boolean[64]});
+
+    @Override
+    public double calculate(@NotNull final String string1, @NotNull final String string2,
+                            @NotNull final AlgorithmOption algorithmOption) {
+        final double similarity = similarity(string1, string2);
+
+        if (algorithmOption == AlgorithmOption.SIMILARITY) {
+            return similarity * -1;
+        }
+
+        return 1.0 - similarity;
+    }
+
+    // lengths only, at best the whole shorter string matches as a shared prefix
+    @Override
+    public double best(@NotNull final String string1, @NotNull final String string2, final int edits,
+                       @NotNull final AlgorithmOption algorithmOption) {
+        final int maxLength = Math.max(string1.length(), string2.length());
+        final int minLength = Math.min(string1.length(), string2.length());
+        final double similarity;
+
+        if (minLength == 0) {
+            similarity = maxLength == 0 ? 1 : 0;
+        } else {
+            final double jaro = (2 + (double) minLength / maxLength) / 3;
+            similarity = jaro + Math.min(1, Math.min(COEFFICIENT, 1.0 / maxLength) * minLength) * (1 - jaro) + SLACK;
+        }
+
+        if (algorithmOption == AlgorithmOption.SIMILARITY) {
+            return similarity * -1;
+        }
+
+        return 1.0 - similarity;
+    }
+
+    private static double similarity(@NotNull final String string1, @NotNull final String string2) {
+        if (string1.equals(string2)) {
+            return 1;
+        }
+
+        final String max = string1.length() > string2.length() ? string1 : string2;
+        final String min = max == string1 ? string2 : string1;
+        final boolean[][] scratch = FLAGS.get();
+
+        if (scratch[0].length < max.length()) {
+            scratch[0] = new boolean[max.length() * 2];
+            scratch[1] = new boolean[max.length() * 2];
+        }
+
+        final boolean[] maxFlags = scratch[0];
+        final boolean[] minFlags = scratch[1];
+        final int range = Math.max(max.length() / 2 - 1, 0);
+        int matches = 0;
+
+        for (int i = 0; i < max.length(); ++i) {
+            maxFlags[i] = false;
+        }
+
+        for (int i = 0; i < min.length(); ++i) {
+            final char character = min.charAt(i);
+            minFlags[i] = false;
+
+            for (int j = Math.max(i - range, 0), end = Math.min(i + range + 1, max.length()); j < end; ++j) {
+                if (!maxFlags[j] && character == max.charAt(j)) {
+                    maxFlags[j] = true;
+                    minFlags[i] = true;
+                    ++matches;
+                    break;
+                }
+            }
+        }
+
+        if (matches == 0) {
+            return 0;
+        }
+
+        // matched characters of both strings walked in order, rather than copied out to compare
+        int transpositions = 0;
+
+        for (int i = 0, j = 0; i < min.length(); ++i) {
+            if (!minFlags[i]) {
+                continue;
+            }
+
+            while (!maxFlags[j]) {
+                ++j;
+            }
+
+            if (min.charAt(i) != max.charAt(j++)) {
+                ++transpositions;
+            }
+        }
+
+        int prefix = 0;
+
+        while (prefix < min.length() && string1.charAt(prefix) == string2.charAt(prefix)) {
+            ++prefix;
+        }
+
+        final float m = matches;
+        final double jaro = (m / string1.length() + m / string2.length() + (m - transpositions / 2) / m) / 3.0f;
+
+        if (jaro > THRESHOLD) {
+            return jaro + Math.min(COEFFICIENT, 1.0 / max.length()) * prefix * (1 - jaro);
+        }
+
+        return jaro;
+    }
+}
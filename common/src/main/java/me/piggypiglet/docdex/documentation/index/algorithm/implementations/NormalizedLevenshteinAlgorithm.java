@@ -0,0 +1,56 @@
+package me.piggypiglet.docdex.documentation.index.algorithm.implementations;
+
+import me.piggypiglet.docdex.documentation.index.algorithm.AlgorithmFunction;
+import me.piggypiglet.docdex.documentation.index.algorithm.AlgorithmOption;
+import org.jetbrains.annotations.NotNull;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+// scores identically to debatty's NormalizedLevenshtein
+public final class NormalizedLevenshteinAlgorithm implements AlgorithmFunction {
+    @Override
+    public double calculate(@NotNull final String string1, @NotNull final String string2,
+                            @NotNull final AlgorithmOption algorithmOption) {
+        return calculate(string1, string2, algorithmOption, Double.POSITIVE_INFINITY);
+    }
+
+    @Override
+    public double calculate(@NotNull final String string1, @NotNull final String string2,
+                            @NotNull final AlgorithmOption algorithmOption, final double bound) {
+        final double maxDistance = algorithmOption == AlgorithmOption.SIMILARITY ? bound + 1 : bound;
+        final double distance = distance(string1, string2, maxDistance);
+
+        if (algorithmOption == AlgorithmOption.SIMILARITY) {
+            return (1.0 - distance) * -1;
+        }
+
+        return distance;
+    }
+
+    @Override
+    public double best(@NotNull final String string1, @NotNull final String string2, final int edits,
+                       @NotNull final AlgorithmOption algorithmOption) {
+        final int maxLength = Math.max(string1.length(), string2.length());
+        final double distance = maxLength == 0 ? 0 : (double) edits / maxLength;
+
+        if (algorithmOption == AlgorithmOption.SIMILARITY) {
+            return (1.0 - distance) * -1;
+        }
+
+        return distance;
+    }
+
+    private static double distance(@NotNull final String string1, @NotNull final String string2, final double maxDistance) {
+        if (string1.equals(string2)) {
+            return 0;
+        }
+
+        final int maxLength = Math.max(string1.length(), string2.length());
+        // normalised distances never pass 1, and the extra edit of slack keeps rounding from cutting off a real match
+        final int maxEdits = maxDistance >= 1 ? Integer.MAX_VALUE : (int) Math.floor(Math.max(0, maxDistance) * maxLength) + 1;
+
+        return (double) EditDistance.calculate(string1, string2, 1, maxEdits) / maxLength;
+    }
+}
@@ -0,0 +1,43 @@
+package me.piggypiglet.docdex.documentation.index.algorithm.implementations;
+
+import me.piggypiglet.docdex.documentation.index.algorithm.AlgorithmFunction;
+import me.piggypiglet.docdex.documentation.index.algorithm.AlgorithmOption;
+import org.jetbrains.annotations.NotNull;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+// scores identically to fuzzywuzzy's FuzzySearch#ratio, which ignores the option
+public final class SimpleRatioAlgorithm implements AlgorithmFunction {
+    @Override
+    public double calculate(@NotNull final String string1, @NotNull final String string2,
+                            @NotNull final AlgorithmOption algorithmOption) {
+        return ratio(string1, string2) * -1;
+    }
+
+    // insert/delete only distances are never under the levenshtein distance
+    @Override
+    public double best(@NotNull final String string1, @NotNull final String string2, final int edits,
+                       @NotNull final AlgorithmOption algorithmOption) {
+        final int lengthSum = string1.length() + string2.length();
+
+        if (lengthSum == 0) {
+            return 0;
+        }
+
+        return (int) Math.round(100 * ((lengthSum - edits) / (double) lengthSum)) * -1;
+    }
+
+    private static int ratio(@NotNull final String string1, @NotNull final String string2) {
+        final int lengthSum = string1.length() + string2.length();
+
+        // fuzzywuzzy divides 0 by 0 here, and rounds the NaN to 0
+        if (lengthSum == 0) {
+            return 0;
+        }
+
+        final int distance = EditDistance.calculate(string1, string2, 2);
+        return (int) Math.round(100 * ((lengthSum - distance) / (double) lengthSum));
+    }
+}
@@ -0,0 +1,94 @@
+package documentation.index.algorithm;
+
+import info.debatty.java.stringsimilarity.JaroWinkler;
+import info.debatty.java.stringsimilarity.NormalizedLevenshtein;
+import info.debatty.java.stringsimilarity.interfaces.StringDistance;
+import info.debatty.java.stringsimilarity.interfaces.StringSimilarity;
+import me.piggypiglet.docdex.documentation.index.algorithm.Algorithm;
+import me.piggypiglet.docdex.documentation.index.algorithm.AlgorithmOption;
+import me.xdrop.fuzzywuzzy.FuzzySearch;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// ------------------------------
+// Copyright (c) PiggyPiglet 2021
+// https://www.piggypiglet.me
+// ------------------------------
+public final class AlgorithmEquivalenceTests {
+    private static final List<String> SAMPLES = List.of(
+            "", "a", "ab", "ba", "entity", "livingentity", "org.bukkit.entity.entity#teleport(location,teleportcause)",
+            "player#sendmessage(string)", "player#sendmessage(string message)", "material%stone", "kwiad hjk",
+            "martha", "marhta", "dixon", "dicksonx", "jellyfish", "smellyfish", "aaaa", "aaab"
+    );
+
+    @Test
+    public void matchesLibraries() {
+        final List<String> strings = strings(new Random(0));
+
+        for (final String string1 : strings) {
+            for (final String string2 : strings) {
+                for (final AlgorithmOption option : AlgorithmOption.values()) {
+                    assertEquals(FuzzySearch.ratio(string1, string2) * -1, Algorithm.SIMPLE_RATIO_LEVENSHTEIN.calculate(string1, string2, option));
+                    assertEquals(debatty(new NormalizedLevenshtein(), string1, string2, option), Algorithm.NORMALIZED_LEVENSHTEIN.calculate(string1, string2, option));
+                    assertEquals(debatty(new JaroWinkler(), string1, string2, option), Algorithm.JARO_WINKLER.calculate(string1, string2, option));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void boundedKeepsTheCut() {
+        final Random random = new Random(1);
+        final List<String> strings = strings(random);
+
+        for (final String string1 : strings) {
+            for (final String string2 : strings) {
+                for (final AlgorithmOption option : AlgorithmOption.values()) {
+                    final double exact = Algorithm.NORMALIZED_LEVENSHTEIN.calculate(string1, string2, option);
+                    final double bound = option == AlgorithmOption.SIMILARITY ? -random.nextDouble() : random.nextDouble();
+                    final double bounded = Algorithm.NORMALIZED_LEVENSHTEIN.calculate(string1, string2, option, bound);
+
+                    // anything that could still make the cut has to be scored exactly
+                    if (exact <= bound) {
+                        assertEquals(exact, bounded);
+                    } else {
+                        assertTrue(bounded > bound && bounded <= exact);
+                    }
+                }
+            }
+        }
+    }
+
+    @NotNull
+    private static List<String> strings(@NotNull final Random random) {
+        final List<String> strings = new ArrayList<>(SAMPLES);
+
+        // small alphabet so matches, transpositions & common prefixes actually happen
+        for (int i = 0; i < 300; ++i) {
+            final StringBuilder builder = new StringBuilder();
+
+            for (int j = random.nextInt(24); j > 0; --j) {
+                builder.append("abcde#.(".charAt(random.nextInt(8)));
+            }
+
+            strings.add(builder.toString());
+        }
+
+        return strings;
+    }
+
+    private static <T extends StringSimilarity & StringDistance> double debatty(@NotNull final T algorithm, @NotNull final String string1, @NotNull final String string2,
+                                  @NotNull final AlgorithmOption option) {
+        if (option == AlgorithmOption.SIMILARITY) {
+            return algorithm.similarity(string1, string2) * -1;
+        }
+
+        return algorithm.distance(string1, string2);
+    }
+}
@@ -48,8 +48,12 @@ public final class UpdateRegisterable extends Registerable {
         });
         updateManager.applyUpdates();
         LOGGER.info("Applied updates to config.json");
-        pterodactylManager.deleteJavadocsAndStop(modifiedJavadocs);
-        LOGGER.info("Deleting MongoDB collections for all updated javadocs.");
+
+        if (!modifiedJavadocs.isEmpty()) {
+            pterodactylManager.updateJavadocs(modifiedJavadocs);
+            LOGGER.info("Asked the app to update all updated javadocs.");
+        }
+
         System.exit(0);
     }
 }
@@ -1,5 +1,6 @@
 package me.piggypiglet.docdex.config.app;
 
+import com.google.gson.JsonObject;
 import com.google.inject.Singleton;
 import me.piggypiglet.docdex.config.Javadoc;
 import org.jetbrains.annotations.NotNull;
@@ -15,6 +16,8 @@ public final class AppConfig {
     private String host;
     private int port;
     private AppMongoConfig database;
+    // the updater never reads the app's index settings, it only needs to write them back untouched
+    private JsonObject index;
     private Set<Javadoc> javadocs;
 
     @NotNull
@@ -42,6 +45,7 @@ public final class AppConfig {
                 "host='" + host + '\'' +
                 ", port=" + port +
                 ", database=" + database +
+                ", index=" + index +
                 ", javadocs=" + javadocs +
                 '}';
     }
@@ -15,8 +15,6 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
-import java.nio.file.Files;
-import java.nio.file.Paths;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -43,25 +41,13 @@ public final class PterodactylManager {
         this.setPowerStatusRequest = setPowerStatusRequest;
     }
 
-    public void deleteJavadocsAndStop(@NotNull final Set<UpdaterJavadoc> javadocs) {
-        final Set<String> collections = javadocs.stream()
+    public void updateJavadocs(@NotNull final Set<UpdaterJavadoc> javadocs) {
+        final String names = javadocs.stream()
                 .map(UpdaterJavadoc::getNames)
-                .map(names -> String.join("-", names))
-                .filter(name -> {
-                    final String path = config.getPterodactyl().getDirectory() + "/docs/" + name + ".json";
-
-                    try {
-                        Files.delete(Paths.get(path));
-                    } catch (IOException exception) {
-                        LOGGER.error("Something went wrong when deleting " + path, exception);
-                        return false;
-                    }
-
-                    return true;
-                })
-                .collect(Collectors.toSet());
-
-        run(() -> commandRequest.send(config.getPterodactyl().getServer(), "delete " + collections));
+                .map(javadocNames -> String.join("-", javadocNames))
+                .collect(Collectors.joining(" "));
+
+        run(() -> commandRequest.send(config.getPterodactyl().getServer(), "update " + names));
     }
 
     @Nullable